@@ -0,0 +1,48 @@
+package com.at.avro;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.at.avro.config.AvroConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Maps a set of columns covering every type branch to avro types.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AvroTypeUtilBenchmark {
+
+    private AvroConfig avroConfig;
+    private AvroConfig enumsAsStrings;
+    private List<DbColumn> columns;
+
+    @Setup
+    public void setup() {
+        avroConfig = new AvroConfig("benchmark").setTypeRegistry(BenchmarkModels.typeRegistry()).setUnknownTypeResolver(type -> "string");
+        enumsAsStrings = new AvroConfig("benchmark").setTypeRegistry(BenchmarkModels.typeRegistry()).setUnknownTypeResolver(type -> "string").setRepresentEnumsAsStrings(true);
+        columns = BenchmarkModels.columns(140);
+    }
+
+    @Benchmark
+    public void getAvroType(Blackhole blackhole) {
+        for (DbColumn column : columns) {
+            blackhole.consume(AvroTypeUtil.getAvroType(column, avroConfig));
+        }
+    }
+
+    @Benchmark
+    public void getAvroTypeEnumsAsStrings(Blackhole blackhole) {
+        for (DbColumn column : columns) {
+            blackhole.consume(AvroTypeUtil.getAvroType(column, enumsAsStrings));
+        }
+    }
+}
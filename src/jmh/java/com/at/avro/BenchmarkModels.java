@@ -0,0 +1,59 @@
+package com.at.avro;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.at.avro.config.TypeRegistry;
+import com.at.avro.dialects.MySqlDialect;
+import com.at.avro.dialects.OracleDialect;
+import com.at.avro.dialects.PostgreSqlDialect;
+
+/**
+ * In-memory tables for benchmarks that don't need a db, with columns cycling through all mapped types.
+ */
+final class BenchmarkModels {
+
+    // type name, full column type, array
+    private static final Object[][] COLUMN_TYPES = {
+        { "int", null, false },
+        { "bigint", null, false },
+        { "varchar", null, false },
+        { "decimal", null, false },
+        { "date", null, false },
+        { "timestamp", null, false },
+        { "time", null, false },
+        { "boolean", null, false },
+        { "double precision", null, false },
+        { "number", null, false },
+        { "_int4", null, true },
+        { "enum", "enum('new','active','closed')", false },
+        { "uuid", null, false },
+        { "bytea", null, false },
+    };
+
+    private BenchmarkModels() {
+    }
+
+    static List<DbColumn> columns(int count) {
+        List<DbColumn> columns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Object[] type = COLUMN_TYPES[i % COLUMN_TYPES.length];
+            columns.add(new DbColumn("column_" + i, (String) type[0], Types.OTHER, (String) type[1], false, (Boolean) type[2],
+                12 + i % 10, i % 4, i % 3 == 0, i % 5 == 0 ? "NULL" : null, "column " + i, i == 0));
+        }
+        return columns;
+    }
+
+    /** Default registry with DB specific types of the columns above, no single dialect maps all of them. */
+    static TypeRegistry typeRegistry() {
+        return TypeRegistry.defaults()
+            .register("enum", MySqlDialect.ENUM)
+            .register("number", OracleDialect.NUMBER)
+            .register(Types.ARRAY, PostgreSqlDialect.ARRAY);
+    }
+
+    static DbTable table(String name, int columnCount) {
+        return new DbTable(name, "PUBLIC." + name, "table " + name, columns(columnCount));
+    }
+}
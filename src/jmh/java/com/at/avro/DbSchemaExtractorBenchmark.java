@@ -0,0 +1,73 @@
+package com.at.avro;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.at.avro.config.AvroConfig;
+import com.at.avro.config.CrawlProfile;
+import com.at.avro.config.ExtractorEngine;
+import helper.SyntheticCatalog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end getAll over an in-memory HSQLDB with thousands of synthetic tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DbSchemaExtractorBenchmark {
+
+    private static final String CONNECTION_URL = "jdbc:hsqldb:mem:benchmark;shutdown=true";
+
+    @Param({ "2000" })
+    public int tables;
+
+    @Param({ "SCHEMA_CRAWLER", "JDBC_METADATA" })
+    public ExtractorEngine engine;
+
+    @Param({ "STANDARD", "MINIMAL" })
+    public CrawlProfile crawlProfile;
+
+    private Connection connection;
+    private DbSchemaExtractor extractor;
+    private AvroConfig avroConfig;
+
+    @Setup
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection(CONNECTION_URL, "sa", "");
+        new SyntheticCatalog(tables, 20).create(connection);
+
+        extractor = new DbSchemaExtractor(CONNECTION_URL, "sa", "").setEngine(engine);
+        avroConfig = new AvroConfig("benchmark")
+            .setCrawlProfile(crawlProfile)
+            .setUnknownTypeResolver(type -> "string");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        extractor.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public List<AvroSchema> getAll() {
+        return extractor.getAll(avroConfig);
+    }
+}
@@ -0,0 +1,56 @@
+package com.at.avro;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import com.at.avro.config.AvroConfig;
+import com.at.avro.config.FormatterConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generates json of a wide schema with each FormatterConfig variant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SchemaGeneratorBenchmark {
+
+    @Param({ "default", "compact", "prettyFields", "wideIndent", "lowerCaseNames" })
+    public String formatting;
+
+    @Param({ "10", "100" })
+    public int columns;
+
+    private AvroSchema schema;
+    private FormatterConfig formatterConfig;
+
+    @Setup
+    public void setup() {
+        AvroConfig avroConfig = new AvroConfig("benchmark").setTypeRegistry(BenchmarkModels.typeRegistry()).setUnknownTypeResolver(type -> "string");
+        schema = new AvroSchema(BenchmarkModels.table("benchmark_table", columns), avroConfig, Collections.emptyList());
+        formatterConfig = formatterConfig(formatting);
+    }
+
+    @Benchmark
+    public String generate() {
+        return SchemaGenerator.generate(schema, formatterConfig);
+    }
+
+    static FormatterConfig formatterConfig(String formatting) {
+        switch (formatting) {
+            case "default": return FormatterConfig.builder().build();
+            case "compact": return FormatterConfig.builder().setPrettyPrintSchema(false).build();
+            case "prettyFields": return FormatterConfig.builder().setPrettyPrintFields(true).build();
+            case "wideIndent": return FormatterConfig.builder().setPrettyPrintFields(true).setIndent("        ").build();
+            case "lowerCaseNames": return FormatterConfig.builder().setLowerCaseNames(true).build();
+            default: throw new IllegalArgumentException("Unknown formatting: " + formatting);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.at.avro.mappers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Name mappers applied to typical table and column names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappersBenchmark {
+
+    private final String[] names = {
+        "customer_addresses", "ORDER_ITEMS", "categories", "user_account_settings", "status", "boxes", "id"
+    };
+
+    private final ToCamelCase toCamelCase = new ToCamelCase();
+    private final RemovePlural removePlural = new RemovePlural();
+
+    @Benchmark
+    public void toCamelCase(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(toCamelCase.apply(name));
+        }
+    }
+
+    @Benchmark
+    public void removePlural(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(removePlural.apply(name));
+        }
+    }
+
+    @Benchmark
+    public void removePluralThenCamelCase(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(toCamelCase.apply(removePlural.apply(name)));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package helper;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.List;
+
+import com.at.avro.AvroSchema;
+import com.at.avro.DbSchemaExtractor;
+import com.at.avro.SchemaGenerator;
+import com.at.avro.config.AvroConfig;
+import com.at.avro.config.CrawlProfile;
+import com.at.avro.config.ExtractorEngine;
+import com.at.avro.config.FormatterConfig;
+
+/**
+ * Runs extract and generate over a synthetic catalog and reports throughput and heap use.
+ *
+ * Usage: LoadHarness [tables] [columns per table] [SCHEMA_CRAWLER|JDBC_METADATA] [STANDARD|MINIMAL]
+ * or ./gradlew loadTest -PloadArgs='5000 30 JDBC_METADATA'
+ */
+public class LoadHarness {
+
+    private static final String CONNECTION_URL = "jdbc:hsqldb:mem:load;shutdown=true";
+
+    public static void main(String[] args) throws Exception {
+        int tables = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int columns = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        ExtractorEngine engine = args.length > 2 ? ExtractorEngine.valueOf(args[2]) : ExtractorEngine.SCHEMA_CRAWLER;
+        CrawlProfile crawlProfile = args.length > 3 ? CrawlProfile.valueOf(args[3]) : CrawlProfile.STANDARD;
+
+        try (Connection connection = DriverManager.getConnection(CONNECTION_URL, "sa", "")) {
+            long start = System.nanoTime();
+            new SyntheticCatalog(tables, columns).create(connection);
+            report("create", tables, start);
+
+            AvroConfig avroConfig = new AvroConfig("load.test")
+                .setCrawlProfile(crawlProfile)
+                .setUseSqlCommentsAsDoc(true)
+                .setUnknownTypeResolver(type -> "string");
+            FormatterConfig formatterConfig = FormatterConfig.builder().build();
+
+            long heapBefore = usedHeap();
+            resetPeakHeap();
+
+            start = System.nanoTime();
+            List<AvroSchema> schemas;
+            try (DbSchemaExtractor extractor = new DbSchemaExtractor(CONNECTION_URL, "sa", "").setEngine(engine)) {
+                schemas = extractor.getAll(avroConfig);
+            }
+            report("extract", schemas.size(), start);
+
+            start = System.nanoTime();
+            long chars = 0;
+            for (AvroSchema schema : schemas) {
+                chars += SchemaGenerator.generate(schema, formatterConfig).length();
+            }
+            report("generate", schemas.size(), start);
+
+            System.out.printf("engine %s, profile %s, %d tables x %d columns, %d chars of json%n",
+                engine, crawlProfile, tables, columns, chars);
+            System.out.printf("heap: %d MB retained by schemas, %d MB peak%n",
+                (usedHeap() - heapBefore) >> 20, peakHeap() >> 20);
+        }
+    }
+
+    private static void report(String step, int count, long start) {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%-9s %6d tables in %7.2f s, %9.1f tables/s%n", step, count, seconds, count / seconds);
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static void resetPeakHeap() {
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+}
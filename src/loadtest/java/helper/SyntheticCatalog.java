@@ -0,0 +1,129 @@
+package helper;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates a large HSQLDB catalog for load tests and benchmarks: a number of tables with a number of columns each,
+ * cycling through column types that hit every AvroTypeUtil branch HSQLDB can represent.
+ * Tables and every other column get comments, every third column gets a default value.
+ *
+ * HSQLDB has no enum type and stores Oracle style NUMBER as DECIMAL, so those two branches are not covered.
+ * Arrays are reported as "INTEGER ARRAY", HSQLDB dialect maps them.
+ */
+public class SyntheticCatalog {
+
+    // column type, default value
+    private static final String[][] COLUMN_TYPES = {
+        { "integer", "0" },
+        { "bigint", "0" },
+        { "smallint", "1" },
+        { "varchar(100)", "'none'" },
+        { "char(10)", "'x'" },
+        { "decimal(12, 2)", "0.00" },
+        { "numeric(30, 6)", "1.5" },
+        { "date", "current_date" },
+        { "time", "current_time" },
+        { "timestamp", "current_timestamp" },
+        { "boolean", "false" },
+        { "double", "0.0" },
+        { "varbinary(64)", null },
+        { "integer array", null },
+        { "money", null },
+    };
+
+    private final int tables;
+    private final int columnsPerTable;
+    private String dbSchemaName = "PUBLIC";
+    private String tablePrefix = "synthetic_";
+
+    public SyntheticCatalog(int tables, int columnsPerTable) {
+        this.tables = tables;
+        this.columnsPerTable = columnsPerTable;
+    }
+
+    /** DB schema to create tables in, it's created if it doesn't exist. Default is PUBLIC. */
+    public SyntheticCatalog setDbSchemaName(String dbSchemaName) {
+        this.dbSchemaName = dbSchemaName;
+        return this;
+    }
+
+    public SyntheticCatalog setTablePrefix(String tablePrefix) {
+        this.tablePrefix = tablePrefix;
+        return this;
+    }
+
+    public int getTables() {
+        return tables;
+    }
+
+    public int getColumnsPerTable() {
+        return columnsPerTable;
+    }
+
+    /** SQL types of columns, in the order they cycle through. */
+    public static List<String> columnTypes() {
+        List<String> columnTypes = new ArrayList<>(COLUMN_TYPES.length);
+        for (String[] type : COLUMN_TYPES) {
+            columnTypes.add(type[0]);
+        }
+        return columnTypes;
+    }
+
+    /** SQL type of "column_&lt;column&gt;", column 0 is the bigint id. */
+    public static String columnType(int column) {
+        return column == 0 ? "bigint" : COLUMN_TYPES[(column - 1) % COLUMN_TYPES.length][0];
+    }
+
+    public void create(Connection connection) throws SQLException {
+        String schema = "\"" + dbSchemaName + "\"";
+        try (Statement statement = connection.createStatement()) {
+            if (!schemaExists(connection)) {
+                statement.execute("create schema " + schema);
+            }
+            statement.execute("set schema " + schema);
+            // user defined (distinct) type
+            statement.execute("create type money as decimal(18, 4)");
+
+            for (int t = 0; t < tables; t++) {
+                String table = schema + ".\"" + tablePrefix + t + "\"";
+                statement.addBatch("create table " + table + "(" + columns() + ")");
+                statement.addBatch("comment on table " + table + " is 'synthetic table " + t + "'");
+                for (int c = 1; c < columnsPerTable; c += 2) {
+                    statement.addBatch("comment on column " + table + ".\"column_" + c + "\" is 'synthetic column " + c + "'");
+                }
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private boolean schemaExists(Connection connection) throws SQLException {
+        try (ResultSet schemas = connection.getMetaData().getSchemas()) {
+            while (schemas.next()) {
+                if (dbSchemaName.equals(schemas.getString("TABLE_SCHEM"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String columns() {
+        StringBuilder columns = new StringBuilder("\"id\" bigint not null primary key");
+        for (int c = 1; c < columnsPerTable; c++) {
+            String[] type = COLUMN_TYPES[(c - 1) % COLUMN_TYPES.length];
+            columns.append(", \"column_").append(c).append("\" ").append(type[0]);
+            if (c % 3 == 0 && type[1] != null) {
+                columns.append(" default ").append(type[1]);
+            }
+            if (c % 4 == 0) {
+                columns.append(" not null");
+            }
+        }
+        return columns.toString();
+    }
+}
@@ -19,11 +19,15 @@ public class AvroField {
     private String doc;
 
     public AvroField(Column column, AvroConfig avroConfig) {
-        String columnName = column.getName()
-            .replaceAll("`", "")
-            .replaceAll("\"", "")
-            .replaceAll("'", "");
+        this(DbColumn.of(column), avroConfig);
+    }
+
+    public AvroField(DbColumn column, AvroConfig avroConfig) {
+        this(column, avroConfig.getNameSanitizer().sanitize(column.getName()), avroConfig);
+    }
 
+    /** Builds a field of a column whose name is sanitized already, ie made unique within a schema. */
+    AvroField(DbColumn column, String columnName, AvroConfig avroConfig) {
         name = avroConfig.getFieldNameMapper().apply(columnName);
         type = AvroTypeUtil.getAvroType(column, avroConfig);
 
@@ -20,31 +20,62 @@ public class AvroSchema {
     private final String namespace;
     private final String doc;
 
-    private List<AvroField> fields;
-    private List<AvroField> keys;
+    private volatile List<AvroField> fields;
+    private volatile List<AvroField> keys;
+
+    // set in lazy fields mode until all fields are built
+    private DbTable dbTable;
+    private AvroConfig avroConfig;
+    private List<AvroField> extraFields;
+    private AvroField[] columnFields;
+    private String[] columnNames;
 
     private Map<String, String> customProperties = new LinkedHashMap<>();
 
     public AvroSchema(Table table, AvroConfig avroConfig, List<AvroField> extraFields) {
-        this.name = avroConfig.getSchemaNameMapper().apply(table.getName());
+        this(DbTable.of(table), table, avroConfig, extraFields);
+    }
+
+    /**
+     * Builds a schema from a table read without SchemaCrawler. AvroSchemaPostProcessor gets a null table,
+     * table post processor gets the given one.
+     */
+    public AvroSchema(DbTable table, AvroConfig avroConfig, List<AvroField> extraFields) {
+        this(table, null, avroConfig, extraFields);
+    }
+
+    AvroSchema(DbTable dbTable, Table table, AvroConfig avroConfig, List<AvroField> extraFields) {
+        this.name = avroConfig.getSchemaNameMapper().apply(avroConfig.getNameSanitizer().sanitize(dbTable.getName()));
         this.namespace = avroConfig.getNamespace();
-        this.doc = avroConfig.isUseSqlCommentsAsDoc() ? table.getRemarks() : null;
-        this.fields = new ArrayList<>(table.getColumns().size());
-        this.keys = new ArrayList<>();
-
-        for (Column column : table.getColumns()) {
-            AvroField field = new AvroField(column, avroConfig);
-            this.fields.add(field);
-            if (column.isPartOfPrimaryKey()) {
-                this.keys.add(field);
-            }
-        }
+        this.doc = avroConfig.isUseSqlCommentsAsDoc() ? dbTable.getRemarks() : null;
 
-        if (extraFields != null) {
-            this.fields.addAll(extraFields);
+        if (avroConfig.isLazyFields()) {
+            this.dbTable = dbTable;
+            this.avroConfig = avroConfig;
+            this.extraFields = extraFields;
+            this.columnFields = new AvroField[dbTable.getColumns().size()];
+        }
+        else {
+            List<AvroField> fields = new ArrayList<>(dbTable.getColumns().size());
+            List<AvroField> keys = new ArrayList<>();
+            String[] columnNames = sanitizeColumnNames(dbTable, avroConfig);
+            for (int i = 0; i < columnNames.length; i++) {
+                DbColumn column = dbTable.getColumns().get(i);
+                AvroField field = new AvroField(column, columnNames[i], avroConfig);
+                fields.add(field);
+                if (column.isPartOfPrimaryKey()) {
+                    keys.add(field);
+                }
+            }
+            if (extraFields != null) {
+                fields.addAll(extraFields);
+            }
+            this.fields = fields;
+            this.keys = keys;
         }
 
         avroConfig.getAvroSchemaPostProcessor().accept(this, table);
+        avroConfig.getTablePostProcessor().accept(this, dbTable);
     }
 
     public String getName() {
@@ -64,11 +95,13 @@ public class AvroSchema {
     }
 
     public List<AvroField> getFields() {
-        return fields;
+        List<AvroField> fields = this.fields;
+        return fields != null ? fields : buildFields();
     }
 
     public List<AvroField> getKeys() {
-        return keys;
+        List<AvroField> keys = this.keys;
+        return keys != null ? keys : buildKeys();
     }
 
     public void addCustomProperty(String name, String value) {
@@ -89,7 +122,7 @@ public class AvroSchema {
             joiner.add("doc='" + doc + "'");
         }
         joiner
-            .add("fields=" + fields)
+            .add("fields=" + getFields())
             .add("customProperties=" + customProperties);
 
         return joiner.toString();
@@ -102,4 +135,62 @@ public class AvroSchema {
             this.keys.add(field);
         }
     }
+
+    private synchronized List<AvroField> buildFields() {
+        if (fields == null) {
+            List<AvroField> built = new ArrayList<>(columnFields.length);
+            for (int i = 0; i < columnFields.length; i++) {
+                built.add(columnField(i));
+            }
+            if (extraFields != null) {
+                built.addAll(extraFields);
+            }
+            getKeys();
+            fields = built;
+
+            // nothing left to build
+            dbTable = null;
+            avroConfig = null;
+            extraFields = null;
+            columnFields = null;
+            columnNames = null;
+        }
+        return fields;
+    }
+
+    private synchronized List<AvroField> buildKeys() {
+        if (keys == null) {
+            List<AvroField> built = new ArrayList<>();
+            List<DbColumn> columns = dbTable.getColumns();
+            for (int i = 0; i < columns.size(); i++) {
+                if (columns.get(i).isPartOfPrimaryKey()) {
+                    built.add(columnField(i));
+                }
+            }
+            keys = built;
+        }
+        return keys;
+    }
+
+    /** Field of a column, key fields are shared with the fields list like in eager mode. */
+    private AvroField columnField(int index) {
+        AvroField field = columnFields[index];
+        if (field == null) {
+            if (columnNames == null) {
+                // names of all columns are needed to keep them unique
+                columnNames = sanitizeColumnNames(dbTable, avroConfig);
+            }
+            field = new AvroField(dbTable.getColumns().get(index), columnNames[index], avroConfig);
+            columnFields[index] = field;
+        }
+        return field;
+    }
+
+    private static String[] sanitizeColumnNames(DbTable dbTable, AvroConfig avroConfig) {
+        List<String> names = new ArrayList<>(dbTable.getColumns().size());
+        for (DbColumn column : dbTable.getColumns()) {
+            names.add(column.getName());
+        }
+        return avroConfig.getNameSanitizer().sanitizeAll(names).toArray(new String[0]);
+    }
 }
@@ -27,6 +27,23 @@ public class AvroType {
         return nullable;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AvroType that = (AvroType) o;
+        return nullable == that.nullable && type.equals(that.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return type.hashCode() * 31 + Boolean.hashCode(nullable);
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", AvroType.class.getSimpleName() + "[", "]")
@@ -0,0 +1,215 @@
+package com.at.avro;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import schemacrawler.schema.Catalog;
+
+/**
+ * Keeps crawled catalogs on disk, so repeated extractions don't have to go to the db.
+ * Catalogs are stored as gzipped serialized SchemaCrawler objects, one file per
+ * connection url, user, schema and table filter combination.
+ *
+ * Cached catalog is used until it gets older than time to live (forever by default)
+ * or until it's dropped with {@link #refresh()}.
+ *
+ * Only SchemaCrawler and this library's classes, and JDK value and collection classes catalogs are made of,
+ * are deserialized from cache files. Others make a file unreadable.
+ * Still, keep the cache in a directory only trusted users can write to.
+ *
+ * @see DbSchemaExtractor#setCatalogCache(CatalogCache)
+ */
+public class CatalogCache {
+
+    private static final String FILE_SUFFIX = ".catalog.gz";
+
+    private static final String[] ALLOWED_PACKAGES = { "schemacrawler.", "us.fatehi.", "com.at.avro." };
+
+    // JDK classes found in SchemaCrawler catalogs: values, collections, and java types columns are mapped to
+    private static final Set<String> ALLOWED_CLASSES = new HashSet<>(Arrays.asList(
+        "java.lang.Object", "java.lang.Enum", "java.lang.Number", "java.lang.String", "java.lang.String$CaseInsensitiveComparator",
+        "java.lang.StringBuilder", "java.lang.StringBuffer", "java.lang.Boolean", "java.lang.Character", "java.lang.Byte",
+        "java.lang.Short", "java.lang.Integer", "java.lang.Long", "java.lang.Float", "java.lang.Double",
+        "java.math.BigDecimal", "java.math.BigInteger",
+        "java.util.ArrayList", "java.util.LinkedList", "java.util.Arrays$ArrayList", "java.util.HashMap",
+        "java.util.LinkedHashMap", "java.util.TreeMap", "java.util.EnumMap", "java.util.HashSet", "java.util.LinkedHashSet",
+        "java.util.TreeSet", "java.util.Collections$EmptyList", "java.util.Collections$EmptyMap", "java.util.Collections$EmptySet",
+        "java.util.Collections$SingletonList", "java.util.Collections$SingletonMap", "java.util.Collections$SingletonSet",
+        "java.util.Collections$UnmodifiableCollection", "java.util.Collections$UnmodifiableList",
+        "java.util.Collections$UnmodifiableRandomAccessList", "java.util.Collections$UnmodifiableSet",
+        "java.util.Collections$UnmodifiableSortedSet", "java.util.Collections$UnmodifiableMap",
+        "java.util.Collections$UnmodifiableSortedMap", "java.util.Collections$ReverseComparator",
+        "java.util.Date", "java.util.UUID", "java.util.regex.Pattern",
+        "java.time.Ser", "java.time.LocalDate", "java.time.LocalTime", "java.time.LocalDateTime", "java.time.OffsetTime",
+        "java.time.OffsetDateTime", "java.time.Instant",
+        "java.sql.JDBCType", "java.sql.Date", "java.sql.Time", "java.sql.Timestamp", "java.sql.Array", "java.sql.Blob",
+        "java.sql.Clob", "java.sql.NClob", "java.sql.Ref", "java.sql.RowId", "java.sql.SQLXML", "java.sql.Struct"));
+
+    private final Path directory;
+    private Duration timeToLive;
+
+    public CatalogCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Cached catalogs older than given duration are crawled again. Null means they never expire.
+     */
+    public CatalogCache setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /** Drops all cached catalogs, so next extraction crawls the db again. */
+    public void refresh() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Can not clear catalog cache in " + directory, e);
+        }
+    }
+
+    /**
+     * Returns a catalog cached under a given key or crawls and caches it.
+     * Unreadable cache files (ie written by another SchemaCrawler version) are treated as missing.
+     */
+    Catalog get(String key, Supplier<Catalog> crawler) {
+        Path file = directory.resolve(fileName(key));
+
+        if (isFresh(file)) {
+            Catalog catalog = read(file);
+            if (catalog != null) {
+                return catalog;
+            }
+        }
+
+        Catalog catalog = crawler.get();
+        write(file, catalog);
+        return catalog;
+    }
+
+    private boolean isFresh(Path file) {
+        try {
+            if (!Files.exists(file)) {
+                return false;
+            }
+            if (timeToLive == null) {
+                return true;
+            }
+            Instant modified = Files.getLastModifiedTime(file).toInstant();
+            return modified.plus(timeToLive).isAfter(Instant.now());
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Catalog read(Path file) {
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)));
+             ObjectInputStream objects = new CatalogInputStream(in)) {
+            return (Catalog) objects.readObject();
+        }
+        catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private void write(Path file, Catalog catalog) {
+        try {
+            Files.createDirectories(directory);
+
+            // write to a temp file first, so concurrent readers never see a partially written catalog
+            Path tempFile = Files.createTempFile(directory, "catalog", ".tmp");
+            try {
+                try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)));
+                     ObjectOutputStream objects = new ObjectOutputStream(out)) {
+                    objects.writeObject(catalog);
+                }
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Can not write catalog cache to " + directory, e);
+        }
+    }
+
+    private static String fileName(String key) {
+        return Digests.sha256(key) + FILE_SUFFIX;
+    }
+
+    /** Refuses to deserialize classes outside of allowed packages, so a planted cache file can't run arbitrary code. */
+    private static class CatalogInputStream extends ObjectInputStream {
+
+        CatalogInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass description) throws IOException, ClassNotFoundException {
+            String name = description.getName();
+            // arrays are checked by their element class, ie [Ljava.lang.String; arrays of primitives are fine
+            String className = name.replaceFirst("^\\[+L", "");
+            boolean primitiveArray = name.startsWith("[") && className.equals(name);
+            if (!primitiveArray) {
+                if (!isAllowed(className)) {
+                    throw new InvalidClassException(name, "class is not allowed in a catalog cache");
+                }
+            }
+            return super.resolveClass(description);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException {
+            throw new InvalidClassException("proxy classes are not allowed in a catalog cache");
+        }
+
+        private static boolean isAllowed(String className) {
+            if (ALLOWED_CLASSES.contains(className)) {
+                return true;
+            }
+            for (String allowedPackage : ALLOWED_PACKAGES) {
+                if (className.startsWith(allowedPackage)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.at.avro;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps a bounded number of idle connections open, so they can be reused by next extractions.
+ *
+ * @see DbSchemaExtractor#setConnectionPoolSize(int)
+ */
+final class ConnectionPool implements AutoCloseable {
+
+    private final int maxIdle;
+    private final Deque<Connection> idle = new ArrayDeque<>();
+    private boolean closed;
+
+    ConnectionPool(int maxIdle) {
+        this.maxIdle = maxIdle;
+    }
+
+    /** Returns the most recently used idle connection or null if there are none. */
+    synchronized Connection poll() {
+        Connection connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (isOpen(connection)) {
+                return connection;
+            }
+        }
+        return null;
+    }
+
+    /** Keeps a connection for reuse. It's closed instead if the pool is full or closed already. */
+    void offer(Connection connection) {
+        synchronized (this) {
+            if (!closed && idle.size() < maxIdle) {
+                idle.addFirst(connection);
+                return;
+            }
+        }
+        closeQuietly(connection);
+    }
+
+    @Override
+    public void close() {
+        List<Connection> connections;
+        synchronized (this) {
+            closed = true;
+            connections = new ArrayList<>(idle);
+            idle.clear();
+        }
+        connections.forEach(ConnectionPool::closeQuietly);
+    }
+
+    static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            // connection is not usable anyway
+        }
+    }
+
+    private static boolean isOpen(Connection connection) {
+        try {
+            return !connection.isClosed();
+        }
+        catch (SQLException e) {
+            return false;
+        }
+    }
+}
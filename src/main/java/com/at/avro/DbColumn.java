@@ -0,0 +1,116 @@
+package com.at.avro;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.JavaSqlType;
+
+import java.sql.Types;
+
+/**
+ * Column details AvroSchema is built from, regardless of which engine has read them.
+ *
+ * @see com.at.avro.config.ExtractorEngine
+ */
+public class DbColumn {
+
+    private final String name;
+    private final String typeName;
+    private final int jdbcType;
+    private final String columnType;
+    private final boolean userDefined;
+    private final boolean array;
+    private final int size;
+    private final int decimalDigits;
+    private final boolean nullable;
+    private final String defaultValue;
+    private final String remarks;
+    private final boolean partOfPrimaryKey;
+
+    DbColumn(String name, String typeName, int jdbcType, String columnType, boolean userDefined, boolean array, int size, int decimalDigits,
+             boolean nullable, String defaultValue, String remarks, boolean partOfPrimaryKey) {
+        this.name = name;
+        this.typeName = typeName;
+        this.jdbcType = jdbcType;
+        this.columnType = columnType;
+        this.userDefined = userDefined;
+        this.array = array;
+        this.size = size;
+        this.decimalDigits = decimalDigits;
+        this.nullable = nullable;
+        this.defaultValue = defaultValue;
+        this.remarks = remarks;
+        this.partOfPrimaryKey = partOfPrimaryKey;
+    }
+
+    static DbColumn of(Column column) {
+        ColumnDataType type = column.getType();
+        String typeName = type.getName();
+
+        // full type declaration is only needed to read enum symbols (MySQL)
+        String columnType = null;
+        if ("enum".equalsIgnoreCase(typeName)) {
+            Object attribute = column.getAttribute("COLUMN_TYPE");
+            columnType = attribute != null ? attribute.toString() : null;
+        }
+
+        JavaSqlType javaSqlType = type.getJavaSqlType();
+        int jdbcType = javaSqlType != null && javaSqlType.getVendorTypeNumber() != null
+            ? javaSqlType.getVendorTypeNumber()
+            : Types.OTHER;
+
+        return new DbColumn(column.getName(), typeName, jdbcType, columnType, type.isUserDefined(),
+            type.getTypeMappedClass() == java.sql.Array.class, column.getSize(), column.getDecimalDigits(),
+            column.isNullable(), column.getDefaultValue(), column.getRemarks(), column.isPartOfPrimaryKey());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Database specific type name, ie varchar or int4. */
+    public String getTypeName() {
+        return typeName;
+    }
+
+    /** JDBC type code (java.sql.Types), Types.OTHER when driver doesn't tell. */
+    public int getJdbcType() {
+        return jdbcType;
+    }
+
+    /** Full type declaration, ie enum('a','b'). Null when unknown. */
+    public String getColumnType() {
+        return columnType;
+    }
+
+    public boolean isUserDefined() {
+        return userDefined;
+    }
+
+    public boolean isArray() {
+        return array;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getDecimalDigits() {
+        return decimalDigits;
+    }
+
+    public boolean isNullable() {
+        return nullable;
+    }
+
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public boolean isPartOfPrimaryKey() {
+        return partOfPrimaryKey;
+    }
+}
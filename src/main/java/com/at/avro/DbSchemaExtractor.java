@@ -3,12 +3,26 @@ package com.at.avro;
 import static java.util.stream.Collectors.toList;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
 
 import com.at.avro.config.AvroConfig;
+import com.at.avro.config.CrawlProfile;
+import com.at.avro.config.ExtractorEngine;
 
 import schemacrawler.inclusionrule.ExcludeAll;
 import schemacrawler.inclusionrule.IncludeAll;
@@ -22,14 +36,30 @@ import schemacrawler.utility.SchemaCrawlerUtility;
 
 /**
  * Connects to a db and populates AvroSchema beans for existing tables.
+ * Close the extractor to close connections kept by its connection pool, if one is set.
  *
  * @author artur@callfire.com
  */
-public class DbSchemaExtractor {
+public class DbSchemaExtractor implements AutoCloseable {
 
-    private final String connectionUrl;
+    private final DataSource dataSource;
     private final Properties connectionProperties;
 
+    // resolved from connection metadata when the extractor is created with a DataSource
+    private volatile String connectionUrl;
+    private volatile String connectionUser;
+    // picks the type registry of AvroConfigs without one set
+    private volatile String databaseProductName;
+
+    private int parallelism = 1;
+    private int streamBatchSize;
+    private ExtractorEngine engine = ExtractorEngine.SCHEMA_CRAWLER;
+    private CatalogCache catalogCache;
+    private volatile ConnectionPool connectionPool;
+
+    // set for the extractor a session runs its crawls with, all of them go over the session's connection
+    private final Session session;
+
     public DbSchemaExtractor(String connectionUrl, String user, String password) {
         this.connectionProperties = new Properties();
         this.connectionProperties.put("nullNamePatternMatchesAll", "true");
@@ -37,10 +67,142 @@ public class DbSchemaExtractor {
         this.connectionProperties.put("password", password);
 
         this.connectionUrl = connectionUrl;
+        this.connectionUser = user;
+        this.dataSource = null;
+        this.session = null;
+    }
+
+    /**
+     * Creates an extractor that takes connections from a given DataSource (ie a pooled one)
+     * and closes them after each crawl, which returns them to the DataSource pool.
+     */
+    public DbSchemaExtractor(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.connectionProperties = null;
+        this.session = null;
+    }
+
+    private DbSchemaExtractor(DbSchemaExtractor source, Session session) {
+        this.session = session;
+        this.dataSource = source.dataSource;
+        this.connectionProperties = source.connectionProperties;
+        this.connectionUrl = source.connectionUrl;
+        this.connectionUser = source.connectionUser;
+        this.databaseProductName = source.databaseProductName;
+        this.engine = source.engine;
+        this.catalogCache = source.catalogCache;
+        this.streamBatchSize = source.streamBatchSize;
+    }
+
+    /**
+     * Sets how many crawls may run at the same time, each over its own connection.
+     * When greater than 1, getAll crawls every DB schema separately and getForTables splits
+     * given tables into groups. Results are merged in a deterministic order.
+     * Note that AvroConfig callbacks are then called from several threads.
+     * Default is 1 - whole catalog is crawled over a single connection.
+     */
+    public DbSchemaExtractor setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism should be positive: " + parallelism);
+        }
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets how many tables extractTo and stream crawl at a time. When set, table names of a DB schema are
+     * listed first and its tables are crawled in batches of a given size, so metadata of only one batch
+     * (per running crawl) is held in memory, however big the DB schema is.
+     * Default is 0 - each DB schema is crawled as a whole.
+     */
+    public DbSchemaExtractor setStreamBatchSize(int streamBatchSize) {
+        if (streamBatchSize < 0) {
+            throw new IllegalArgumentException("stream batch size should not be negative: " + streamBatchSize);
+        }
+        this.streamBatchSize = streamBatchSize;
+        return this;
+    }
+
+    public int getStreamBatchSize() {
+        return streamBatchSize;
+    }
+
+    /**
+     * Sets how db metadata is read. Default is {@link ExtractorEngine#SCHEMA_CRAWLER}.
+     */
+    public DbSchemaExtractor setEngine(ExtractorEngine engine) {
+        this.engine = engine;
+        return this;
+    }
+
+    public ExtractorEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Sets an on-disk cache for crawled catalogs. When set, repeated extractions with the same
+     * schema and table filters are served from the cache without connecting to the db.
+     */
+    public DbSchemaExtractor setCatalogCache(CatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+        return this;
+    }
+
+    public CatalogCache getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Keeps up to a given number of connections open between crawls and reuses them, so repeated
+     * calls don't have to connect to the db each time. Kept connections are closed with the extractor.
+     * Default is 0 - a connection is opened for each crawl and closed after it.
+     */
+    public DbSchemaExtractor setConnectionPoolSize(int connectionPoolSize) {
+        if (connectionPoolSize < 0) {
+            throw new IllegalArgumentException("connection pool size should not be negative: " + connectionPoolSize);
+        }
+        ConnectionPool previous = connectionPool;
+        connectionPool = connectionPoolSize > 0 ? new ConnectionPool(connectionPoolSize) : null;
+        if (previous != null) {
+            previous.close();
+        }
+        return this;
+    }
+
+    /**
+     * Opens a session which runs all its extractions over a single connection, ie for a series of getForTable calls.
+     * The connection stays open until the session is closed. Sessions don't run crawls in parallel.
+     */
+    public Session openSession() {
+        return new Session(this, acquireConnection());
+    }
+
+    /** Closes idle connections of the connection pool. */
+    @Override
+    public void close() {
+        ConnectionPool pool = connectionPool;
+        connectionPool = null;
+        if (pool != null) {
+            pool.close();
+        }
     }
 
     /** Returns all AvroSchemas that are present in a target DB */
     public List<AvroSchema> getAll(AvroConfig avroConfig) {
+        if (parallelism > 1) {
+            List<String> dbSchemaNames = getDbSchemaNames();
+            if (dbSchemaNames.size() > 1) {
+                List<Supplier<List<AvroSchema>>> crawls = new ArrayList<>();
+                for (String dbSchemaName : dbSchemaNames) {
+                    crawls.add(() -> get(avroConfig, dbSchemaName, Collections.emptyList()));
+                }
+                return getInParallel(crawls);
+            }
+        }
         return get(avroConfig, null, Collections.emptyList());
     }
 
@@ -51,9 +213,44 @@ public class DbSchemaExtractor {
 
     /** Returns AvroSchemas for each of given tables */
     public List<AvroSchema> getForTables(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, String... tableNames) {
+        if (parallelism > 1 && tableNames.length > 1) {
+            int groupSize = (tableNames.length + parallelism - 1) / parallelism;
+            List<Supplier<List<AvroSchema>>> crawls = new ArrayList<>();
+            for (int from = 0; from < tableNames.length; from += groupSize) {
+                String[] group = Arrays.copyOfRange(tableNames, from, Math.min(from + groupSize, tableNames.length));
+                crawls.add(() -> get(avroConfig, dbSchemaName, extraFields, group));
+            }
+            return getInParallel(crawls);
+        }
         return get(avroConfig, dbSchemaName, extraFields, tableNames);
     }
 
+    /**
+     * Returns AvroSchemas of given tables by their names, all served from a single crawl.
+     * Map follows the order of given names, tables that don't exist are left out.
+     *
+     * @see TableBatcher
+     */
+    public Map<String, AvroSchema> getForTablesByName(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields,
+                                                      Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, AvroSchema> byTableName = new HashMap<>();
+        extract(avroConfig, dbSchemaName, extraFields, table -> true,
+            (table, schema) -> byTableName.putIfAbsent(table.getName(), schema), tableNames.toArray(new String[0]));
+
+        Map<String, AvroSchema> result = new LinkedHashMap<>();
+        for (String tableName : tableNames) {
+            AvroSchema schema = byTableName.get(tableName);
+            if (schema != null) {
+                result.put(tableName, schema);
+            }
+        }
+        return result;
+    }
+
     /** Returns AvroSchema for a specific table */
     public AvroSchema getForTable(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, String tableName) {
         List<AvroSchema> schemas = get(avroConfig, dbSchemaName, extraFields, tableName);
@@ -65,76 +262,391 @@ public class DbSchemaExtractor {
         }
     }
 
-    private List<AvroSchema> get(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, String... tableNames) {
-        try (Connection connection = DriverManager.getConnection(connectionUrl, connectionProperties)) {
+    /**
+     * Returns AvroSchemas only for tables that are new or changed since given fingerprints were taken
+     * (all tables of a given DB schema, or of whole DB if dbSchemaName is null, are checked).
+     * Fingerprints are updated along the way, store them for the next run.
+     * Unchanged tables are skipped before any AvroSchema is built for them.
+     */
+    public List<AvroSchema> getChanged(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields,
+                                       TableFingerprints fingerprints) {
+        List<AvroSchema> schemas = new LinkedList<>();
+        extract(avroConfig, dbSchemaName, extraFields, fingerprints::update, (table, schema) -> schemas.add(schema));
+        return schemas;
+    }
 
-            LimitOptionsBuilder limitOptionsBuilder = defaultLimitOptionsBuilder();
-            LoadOptionsBuilder loadOptionsBuilder = defaultLoadOptionsBuilder();
+    /**
+     * Passes AvroSchemas of a given DB schema (or of all DB schemas when dbSchemaName is null) to a consumer
+     * as soon as each of them is mapped, so generation can start before extraction is over.
+     * DB schemas are crawled one by one (or a few at a time, if parallelism is set) and are not kept afterwards.
+     * A whole DB schema is crawled at once unless a stream batch size is set, then its tables are crawled
+     * batch after batch. Consumer is always called from the calling thread.
+     *
+     * @see #setStreamBatchSize(int)
+     */
+    public void extractTo(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, Consumer<AvroSchema> consumer) {
+        List<String> dbSchemaNames = dbSchemaName != null ? Collections.singletonList(dbSchemaName) : getDbSchemaNames();
+        if (parallelism > 1) {
+            List<Supplier<List<AvroSchema>>> crawls = new ArrayList<>();
+            for (String name : dbSchemaNames) {
+                for (String[] batch : tableBatches(name)) {
+                    crawls.add(() -> get(avroConfig, name, extraFields, batch));
+                }
+            }
+            if (crawls.size() > 1) {
+                extractInParallel(crawls, consumer);
+                return;
+            }
+        }
 
-            // pull database name out of connection string if specified (MS SQL Server)
-            final String databaseName;
-            if (connectionUrl.contains("databaseName=")) {
-                String str = connectionUrl.substring(connectionUrl.indexOf("databaseName=") + 13);
-                databaseName = str.contains("&") ? str.substring(0, str.indexOf("&")) : str;
-            } else {
-                databaseName = null;
+        for (String name : dbSchemaNames) {
+            for (String[] batch : tableBatches(name)) {
+                extract(avroConfig, name, extraFields, table -> true, (table, schema) -> consumer.accept(schema), batch);
             }
+        }
+    }
+
+    /**
+     * Returns a lazy stream of AvroSchemas of a given DB schema (or of all DB schemas when dbSchemaName is null).
+     * Each DB schema (or each batch of its tables, if a stream batch size is set) is crawled only when the stream reaches it.
+     *
+     * @see #setStreamBatchSize(int)
+     */
+    public Stream<AvroSchema> stream(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields) {
+        List<String> dbSchemaNames = dbSchemaName != null ? Collections.singletonList(dbSchemaName) : getDbSchemaNames();
+        return dbSchemaNames.stream()
+            .flatMap(name -> tableBatches(name).stream()
+                .flatMap(batch -> get(avroConfig, name, extraFields, batch).stream()));
+    }
+
+    private List<AvroSchema> get(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, String... tableNames) {
+        List<AvroSchema> schemas = new LinkedList<>();
+        extract(avroConfig, dbSchemaName, extraFields, table -> true, (table, schema) -> schemas.add(schema), tableNames);
+        return schemas;
+    }
+
+    private void extract(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields,
+                         Predicate<DbTable> tableFilter, BiConsumer<DbTable, AvroSchema> consumer, String... tableNames) {
+        avroConfig.resolveTypeRegistry(databaseProductName());
 
-            // filter load by schema name
-            if (databaseName != null && dbSchemaName != null) {
-                limitOptionsBuilder.includeSchemas(new RegularExpressionInclusionRule(databaseName + "\\.((?i)" + dbSchemaName + ")"));
-            } else if (dbSchemaName != null) {
-                limitOptionsBuilder.includeSchemas(new RegularExpressionInclusionRule(".*((?i)" + dbSchemaName + ")"));
+        // pull database name out of connection string if specified (MS SQL Server)
+        final String databaseName;
+        String connectionUrl = connectionUrl();
+        if (connectionUrl.contains("databaseName=")) {
+            String str = connectionUrl.substring(connectionUrl.indexOf("databaseName=") + 13);
+            databaseName = str.contains("&") ? str.substring(0, str.indexOf("&")) : str;
+        } else {
+            databaseName = null;
+        }
+
+        Set<String> fullTableNames = null;
+        if (tableNames != null && tableNames.length > 0) {
+
+            StringBuilder tablePrefix = new StringBuilder();
+            if (databaseName != null) {
+                tablePrefix.append(databaseName);
+                tablePrefix.append(".");
+            }
+            if (dbSchemaName != null) {
+                tablePrefix.append(dbSchemaName);
+                tablePrefix.append(".");
             }
 
-            // filter load by table names
-            if (tableNames != null && tableNames.length > 0) {
+            fullTableNames = Arrays.stream(tableNames)
+                .map(tableName -> tablePrefix.toString() + tableName)
+                .collect(Collectors.toSet());
+        }
 
-                StringBuilder tablePrefix = new StringBuilder();
-                if (databaseName != null) {
-                    tablePrefix.append(databaseName);
-                    tablePrefix.append(".");
+        if (engine == ExtractorEngine.JDBC_METADATA) {
+            for (DbTable table : readTables(dbSchemaName, fullTableNames)) {
+                if (tableFilter.test(table)) {
+                    consumer.accept(table, new AvroSchema(table, avroConfig, extraFields));
                 }
-                if (dbSchemaName != null) {
-                    tablePrefix.append(dbSchemaName);
-                    tablePrefix.append(".");
+            }
+            return;
+        }
+
+        LimitOptionsBuilder limitOptionsBuilder = defaultLimitOptionsBuilder();
+        LoadOptionsBuilder loadOptionsBuilder = defaultLoadOptionsBuilder(avroConfig);
+
+        // filter load by schema name
+        if (databaseName != null && dbSchemaName != null) {
+            limitOptionsBuilder.includeSchemas(new RegularExpressionInclusionRule(databaseName + "\\.((?i)" + dbSchemaName + ")"));
+        } else if (dbSchemaName != null) {
+            limitOptionsBuilder.includeSchemas(new RegularExpressionInclusionRule(".*((?i)" + dbSchemaName + ")"));
+        }
+
+        // filter load by table names
+        if (fullTableNames != null) {
+            Set<String> includedTableNames = fullTableNames;
+            limitOptionsBuilder.includeTables(fullName -> matchesTableName(fullName, includedTableNames));
+        }
+
+        SchemaCrawlerOptionsBuilder crawlerOptionsBuilder = SchemaCrawlerOptionsBuilder.builder()
+            .withLimitOptionsBuilder(limitOptionsBuilder)
+            .withLoadOptionsBuilder(loadOptionsBuilder);
+
+        SchemaCrawlerOptions options = crawlerOptionsBuilder.toOptions();
+        String kind = "tables:" + options.getLoadOptions().getSchemaInfoLevel();
+        Catalog catalog = getCatalog(options, kind, dbSchemaName, tableNames);
+
+        List<Schema> dbSchemas = new ArrayList<>(catalog.getSchemas());
+        if (dbSchemaName != null) {
+            dbSchemas = dbSchemas.stream()
+                    .filter(schema -> dbSchemaName.equalsIgnoreCase(schema.getCatalogName()) || dbSchemaName.equalsIgnoreCase(schema.getName()))
+                    .collect(toList());
+        }
+
+        for (Schema dbSchema : dbSchemas) {
+            for (Table table : catalog.getTables(dbSchema)) {
+                DbTable dbTable = DbTable.of(table);
+                if (tableFilter.test(dbTable)) {
+                    consumer.accept(dbTable, new AvroSchema(dbTable, table, avroConfig, extraFields));
                 }
+            }
+        }
+    }
+
+    /**
+     * Crawls the db or takes a catalog from the cache, if one is set.
+     * Cache key consists of connection details, crawl kind and its filters.
+     */
+    private Catalog getCatalog(SchemaCrawlerOptions options, String kind, String dbSchemaName, String... tableNames) {
+        if (catalogCache == null) {
+            return crawl(options);
+        }
+
+        String[] sortedTableNames = tableNames.clone();
+        Arrays.sort(sortedTableNames);
+        String key = String.join("|", connectionUrl(), String.valueOf(connectionUser), kind,
+            String.valueOf(dbSchemaName), String.join(",", sortedTableNames));
 
-                Set<String> fullTableNames = Arrays.stream(tableNames)
-                    .map(tableName -> tablePrefix.toString() + tableName)
-                    .collect(Collectors.toSet());
-                limitOptionsBuilder.includeTables(fullTableNames::contains);
+        return catalogCache.get(key, () -> crawl(options));
+    }
+
+    private Catalog crawl(SchemaCrawlerOptions options) {
+        Connection connection = acquireConnection();
+        boolean reusable = false;
+        try {
+            Catalog catalog = SchemaCrawlerUtility.getCatalog(connection, options);
+            reusable = true;
+            return catalog;
+        }
+        catch (SchemaCrawlerException e) {
+            throw new RuntimeException(e);
+        }
+        finally {
+            releaseConnection(connection, reusable);
+        }
+    }
+
+    private List<DbTable> readTables(String dbSchemaName, Set<String> fullTableNames) {
+        Connection connection = acquireConnection();
+        boolean reusable = false;
+        try {
+            List<DbTable> tables = new JdbcMetadataReader(connection).readTables(dbSchemaName, fullTableNames);
+            reusable = true;
+            return tables;
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+        finally {
+            releaseConnection(connection, reusable);
+        }
+    }
+
+    private Connection acquireConnection() {
+        if (session != null) {
+            return session.connection();
+        }
+        ConnectionPool pool = connectionPool;
+        Connection connection = pool != null ? pool.poll() : null;
+        if (connection != null) {
+            return connection;
+        }
+
+        try {
+            if (dataSource != null) {
+                return dataSource.getConnection();
             }
+            return DriverManager.getConnection(connectionUrl, connectionProperties);
+        }
+        catch (SQLException e) {
+            throw new IllegalArgumentException("Can not get connection to " + (connectionUrl != null ? connectionUrl : dataSource), e);
+        }
+    }
+
+    /** Returns a connection to the pool if it's still usable and pooling is on, closes it otherwise. */
+    private void releaseConnection(Connection connection, boolean reusable) {
+        if (session != null) {
+            // connection is released when the session is closed
+            session.release(reusable);
+            return;
+        }
+        ConnectionPool pool = connectionPool;
+        if (reusable && pool != null) {
+            pool.offer(connection);
+        }
+        else {
+            ConnectionPool.closeQuietly(connection);
+        }
+    }
 
-            SchemaCrawlerOptionsBuilder crawlerOptionsBuilder = SchemaCrawlerOptionsBuilder.builder()
-                .withLimitOptionsBuilder(limitOptionsBuilder)
-                .withLoadOptionsBuilder(loadOptionsBuilder);
+    /** Connection url is needed to filter SQL Server schemas and to build cache keys. */
+    private String connectionUrl() {
+        if (connectionUrl == null) {
+            readConnectionMetadata();
+        }
+        return connectionUrl;
+    }
 
-            Catalog catalog = SchemaCrawlerUtility.getCatalog(connection, crawlerOptionsBuilder.toOptions());
+    /** DB product name picks dialects of the type registry, see {@link AvroConfig#resolveTypeRegistry(String)}. */
+    private String databaseProductName() {
+        if (databaseProductName == null) {
+            readConnectionMetadata();
+        }
+        return databaseProductName;
+    }
 
-            List<Schema> dbSchemas = new ArrayList<>(catalog.getSchemas());
-            if (dbSchemaName != null) {
-                dbSchemas = dbSchemas.stream()
-                        .filter(schema -> dbSchemaName.equalsIgnoreCase(schema.getCatalogName()) || dbSchemaName.equalsIgnoreCase(schema.getName()))
-                        .collect(toList());
+    private void readConnectionMetadata() {
+        Connection connection = acquireConnection();
+        boolean reusable = false;
+        try {
+            DatabaseMetaData metaData = connection.getMetaData();
+            if (connectionUrl == null) {
+                connectionUser = metaData.getUserName();
+                connectionUrl = metaData.getURL() != null ? metaData.getURL() : "";
             }
+            databaseProductName = metaData.getDatabaseProductName() != null ? metaData.getDatabaseProductName() : "";
+            reusable = true;
+        }
+        catch (SQLException e) {
+            throw new IllegalArgumentException("Can not read connection metadata of " + (connectionUrl != null ? connectionUrl : dataSource), e);
+        }
+        finally {
+            releaseConnection(connection, reusable);
+        }
+    }
 
-            List<AvroSchema> schemas = new LinkedList<>();
+    private List<AvroSchema> getInParallel(List<Supplier<List<AvroSchema>>> crawls) {
+        List<AvroSchema> schemas = new ArrayList<>();
+        extractInParallel(crawls, schemas::add);
+        return schemas;
+    }
+
+    /**
+     * Runs given crawls on a bounded pool, one connection per running crawl.
+     * Results are passed to the consumer in the order of crawls, not in the order of completion.
+     * At most parallelism crawls are in flight: the next one is submitted only once a result has been consumed,
+     * so finished results don't pile up when the consumer is slower than the crawls.
+     */
+    private void extractInParallel(List<Supplier<List<AvroSchema>>> crawls, Consumer<AvroSchema> consumer) {
+        int threads = Math.min(parallelism, crawls.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Deque<Future<List<AvroSchema>>> inFlight = new ArrayDeque<>(threads);
+            Iterator<Supplier<List<AvroSchema>>> pending = crawls.iterator();
+            while (inFlight.size() < threads && pending.hasNext()) {
+                inFlight.add(executor.submit(pending.next()::get));
+            }
 
-            for (Schema dbSchema : dbSchemas) {
-                for (Table table : catalog.getTables(dbSchema)) {
-                    schemas.add(new AvroSchema(table, avroConfig, extraFields));
+            while (!inFlight.isEmpty()) {
+                List<AvroSchema> schemas = inFlight.poll().get();
+                schemas.forEach(consumer);
+                if (pending.hasNext()) {
+                    inFlight.add(executor.submit(pending.next()::get));
                 }
             }
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
 
-            return schemas;
+    /**
+     * Splits tables of a DB schema into batches of stream batch size.
+     * Without a stream batch size there is a single empty batch, which stands for all tables.
+     */
+    private List<String[]> tableBatches(String dbSchemaName) {
+        if (streamBatchSize == 0) {
+            return Collections.singletonList(new String[0]);
         }
-        catch (SQLException e) {
-            throw new IllegalArgumentException("Can not get connection to " + connectionUrl, e);
+
+        List<String> tableNames = getTableNames(dbSchemaName);
+        List<String[]> batches = new ArrayList<>();
+        for (int from = 0; from < tableNames.size(); from += streamBatchSize) {
+            batches.add(tableNames.subList(from, Math.min(from + streamBatchSize, tableNames.size())).toArray(new String[0]));
         }
-        catch (SchemaCrawlerException e) {
+        return batches;
+    }
+
+    /** Lists names of tables of a DB schema with a single metadata call, for either engine. */
+    private List<String> getTableNames(String dbSchemaName) {
+        Connection connection = acquireConnection();
+        boolean reusable = false;
+        try {
+            List<String> tableNames = new JdbcMetadataReader(connection).readTableNames(dbSchemaName);
+            reusable = true;
+            return tableNames;
+        }
+        catch (SQLException e) {
             throw new RuntimeException(e);
         }
+        finally {
+            releaseConnection(connection, reusable);
+        }
+    }
+
+    /** Lists names of DB schemas (or catalogs, for DBs without schemas) without crawling their tables. */
+    private List<String> getDbSchemaNames() {
+        if (engine == ExtractorEngine.JDBC_METADATA) {
+            Connection connection = acquireConnection();
+            boolean reusable = false;
+            try {
+                List<String> dbSchemaNames = new JdbcMetadataReader(connection).readDbSchemaNames();
+                reusable = true;
+                return dbSchemaNames;
+            }
+            catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+            finally {
+                releaseConnection(connection, reusable);
+            }
+        }
+
+        LimitOptionsBuilder limitOptionsBuilder = defaultLimitOptionsBuilder()
+            .includeTables(new ExcludeAll())
+            .includeColumns(new ExcludeAll());
+        LoadOptionsBuilder loadOptionsBuilder = LoadOptionsBuilder.builder()
+            .withSchemaInfoLevel(SchemaInfoLevelBuilder.minimum());
+
+        SchemaCrawlerOptionsBuilder crawlerOptionsBuilder = SchemaCrawlerOptionsBuilder.builder()
+            .withLimitOptionsBuilder(limitOptionsBuilder)
+            .withLoadOptionsBuilder(loadOptionsBuilder);
+
+        Catalog catalog = getCatalog(crawlerOptionsBuilder.toOptions(), "schemas", null);
+
+        // schema filter is case insensitive, so names differing only by case are crawled once
+        Map<String, String> dbSchemaNames = new LinkedHashMap<>();
+        for (Schema dbSchema : catalog.getSchemas()) {
+            String name = dbSchema.getName() != null ? dbSchema.getName() : dbSchema.getCatalogName();
+            if (name != null) {
+                dbSchemaNames.putIfAbsent(name.toLowerCase(), name);
+            }
+        }
+        return new ArrayList<>(dbSchemaNames.values());
     }
 
     private LimitOptionsBuilder defaultLimitOptionsBuilder() {
@@ -144,11 +656,45 @@ public class DbSchemaExtractor {
             .includeColumns(new IncludeAll());
     }
 
-    private LoadOptionsBuilder defaultLoadOptionsBuilder() {
+    private LoadOptionsBuilder defaultLoadOptionsBuilder(AvroConfig avroConfig) {
         return LoadOptionsBuilder.builder()
             // Set what details are required in the schema - this affects the
             // time taken to crawl the schema
-            .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+            .withSchemaInfoLevel(schemaInfoLevel(avroConfig));
+    }
+
+    private SchemaInfoLevel schemaInfoLevel(AvroConfig avroConfig) {
+        if (avroConfig.getCrawlProfile() != CrawlProfile.MINIMAL) {
+            return SchemaInfoLevelBuilder.standard();
+        }
+
+        // primary keys and remarks returned by plain jdbc metadata calls come along with tables and columns
+        boolean needEnumDefinitions = !avroConfig.representEnumsAsStrings();
+        return SchemaInfoLevelBuilder.builder()
+            .withInfoLevel(InfoLevel.minimum)
+            .withTag("minimal")
+            .setRetrieveRoutines(false)
+            .setRetrieveTables(true)
+            .setRetrieveTableColumns(true)
+            .setRetrieveAdditionalTableAttributes(avroConfig.isUseSqlCommentsAsDoc())
+            .setRetrieveAdditionalColumnAttributes(avroConfig.isUseSqlCommentsAsDoc() || needEnumDefinitions)
+            .toOptions();
+    }
+
+    /**
+     * Full table name may have more parts than the requested one, ie catalog name in PUBLIC.schema.table (HSQLDB),
+     * so it's matched by its trailing parts too.
+     */
+    static boolean matchesTableName(String fullTableName, Set<String> tableNames) {
+        String name = fullTableName;
+        while (!tableNames.contains(name)) {
+            int dot = name.indexOf('.');
+            if (dot < 0) {
+                return false;
+            }
+            name = name.substring(dot + 1);
+        }
+        return true;
     }
 
     private boolean containsIgnoreCase(String[] array, String word) {
@@ -159,4 +705,94 @@ public class DbSchemaExtractor {
         }
         return false;
     }
+
+    /**
+     * Extractions bound to a single open connection.
+     * A session can't be used once closed, its methods throw IllegalStateException then.
+     *
+     * @see DbSchemaExtractor#openSession()
+     */
+    public static final class Session implements AutoCloseable {
+
+        private final DbSchemaExtractor owner;
+        private final Connection connection;
+        private final DbSchemaExtractor extractor;
+
+        private volatile boolean closed;
+        private volatile boolean broken;
+
+        private Session(DbSchemaExtractor owner, Connection connection) {
+            this.owner = owner;
+            this.connection = connection;
+            this.extractor = new DbSchemaExtractor(owner, this);
+        }
+
+        /** @see DbSchemaExtractor#getAll(AvroConfig) */
+        public List<AvroSchema> getAll(AvroConfig avroConfig) {
+            return extractor.getAll(avroConfig);
+        }
+
+        /** @see DbSchemaExtractor#getForSchema(AvroConfig, String, List) */
+        public List<AvroSchema> getForSchema(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields) {
+            return extractor.getForSchema(avroConfig, dbSchemaName, extraFields);
+        }
+
+        /** @see DbSchemaExtractor#getForTables(AvroConfig, String, List, String...) */
+        public List<AvroSchema> getForTables(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, String... tableNames) {
+            return extractor.getForTables(avroConfig, dbSchemaName, extraFields, tableNames);
+        }
+
+        /** @see DbSchemaExtractor#getForTablesByName(AvroConfig, String, List, Collection) */
+        public Map<String, AvroSchema> getForTablesByName(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields,
+                                                          Collection<String> tableNames) {
+            return extractor.getForTablesByName(avroConfig, dbSchemaName, extraFields, tableNames);
+        }
+
+        /** @see DbSchemaExtractor#getForTable(AvroConfig, String, List, String) */
+        public AvroSchema getForTable(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, String tableName) {
+            return extractor.getForTable(avroConfig, dbSchemaName, extraFields, tableName);
+        }
+
+        /** @see DbSchemaExtractor#getChanged(AvroConfig, String, List, TableFingerprints) */
+        public List<AvroSchema> getChanged(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields,
+                                           TableFingerprints fingerprints) {
+            return extractor.getChanged(avroConfig, dbSchemaName, extraFields, fingerprints);
+        }
+
+        /** @see DbSchemaExtractor#extractTo(AvroConfig, String, List, Consumer) */
+        public void extractTo(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields, Consumer<AvroSchema> consumer) {
+            extractor.extractTo(avroConfig, dbSchemaName, extraFields, consumer);
+        }
+
+        /** @see DbSchemaExtractor#stream(AvroConfig, String, List) */
+        public Stream<AvroSchema> stream(AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields) {
+            return extractor.stream(avroConfig, dbSchemaName, extraFields);
+        }
+
+        /**
+         * Gives the connection back to the extractor that opened this session, or closes it if a crawl over it failed.
+         * Does nothing if the session is closed already.
+         */
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            owner.releaseConnection(connection, !broken);
+        }
+
+        private Connection connection() {
+            if (closed) {
+                throw new IllegalStateException("Session is closed");
+            }
+            return connection;
+        }
+
+        private void release(boolean reusable) {
+            if (!reusable) {
+                broken = true;
+            }
+        }
+    }
 }
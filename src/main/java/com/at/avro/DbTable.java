@@ -0,0 +1,53 @@
+package com.at.avro;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Table;
+
+/**
+ * Table details AvroSchema is built from, regardless of which engine has read them.
+ *
+ * @see com.at.avro.config.ExtractorEngine
+ */
+public class DbTable {
+
+    private final String name;
+    private final String fullName;
+    private final String remarks;
+    private final List<DbColumn> columns;
+
+    DbTable(String name, String fullName, String remarks, List<DbColumn> columns) {
+        this.name = name;
+        this.fullName = fullName;
+        this.remarks = remarks;
+        this.columns = Collections.unmodifiableList(columns);
+    }
+
+    static DbTable of(Table table) {
+        List<DbColumn> columns = new ArrayList<>(table.getColumns().size());
+        for (Column column : table.getColumns()) {
+            columns.add(DbColumn.of(column));
+        }
+        return new DbTable(table.getName(), table.getFullName(), table.getRemarks(), columns);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Name qualified with catalog and schema names, where the db has them. */
+    public String getFullName() {
+        return fullName;
+    }
+
+    public String getRemarks() {
+        return remarks;
+    }
+
+    public List<DbColumn> getColumns() {
+        return columns;
+    }
+}
@@ -0,0 +1,220 @@
+package com.at.avro;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Reads tables straight from DatabaseMetaData, with bulk calls per DB schema where possible.
+ *
+ * @see com.at.avro.config.ExtractorEngine#JDBC_METADATA
+ */
+final class JdbcMetadataReader {
+
+    private static final String[] TABLE_TYPES = { "TABLE", "BASE TABLE", "VIEW" };
+
+    private static final Set<String> SYSTEM_SCHEMAS = new HashSet<>(Arrays.asList(
+        "information_schema", "system_lobs", "pg_catalog", "pg_toast", "mysql", "performance_schema", "sys"));
+
+    // below this number of requested tables columns are read table by table instead of for whole DB schema
+    private static final int PER_TABLE_LIMIT = 16;
+
+    // tables are ordered by name, like SchemaCrawler orders them
+    private static final Comparator<String> TABLE_ORDER = String.CASE_INSENSITIVE_ORDER.thenComparing(Comparator.naturalOrder());
+
+    private final DatabaseMetaData metaData;
+    private final boolean schemasSupported;
+
+    JdbcMetadataReader(Connection connection) throws SQLException {
+        this.metaData = connection.getMetaData();
+        this.schemasSupported = metaData.supportsSchemasInTableDefinitions();
+    }
+
+    /** Lists names of DB schemas (or catalogs, for DBs without schemas), leaving out system ones. */
+    List<String> readDbSchemaNames() throws SQLException {
+        Map<String, String> names = new LinkedHashMap<>();
+        for (String name : listDbSchemas()) {
+            names.putIfAbsent(name.toLowerCase(), name);
+        }
+        return new ArrayList<>(names.values());
+    }
+
+    /**
+     * Reads tables of a given DB schema (matched ignoring case), or of all DB schemas if dbSchemaName is null.
+     * If table names are given, only tables whose full names end with one of them are read.
+     */
+    List<DbTable> readTables(String dbSchemaName, Set<String> tableNames) throws SQLException {
+        List<DbTable> tables = new ArrayList<>();
+        for (String dbSchema : listDbSchemas()) {
+            if (dbSchemaName == null || dbSchemaName.equalsIgnoreCase(dbSchema)) {
+                tables.addAll(readTables(schemasSupported ? null : dbSchema, schemasSupported ? dbSchema : null, tableNames));
+            }
+        }
+        return tables;
+    }
+
+    /** Lists names of tables of a given DB schema (matched ignoring case) without reading their columns. */
+    List<String> readTableNames(String dbSchemaName) throws SQLException {
+        Set<String> names = new TreeSet<>(TABLE_ORDER);
+        for (String dbSchema : listDbSchemas()) {
+            if (dbSchemaName.equalsIgnoreCase(dbSchema)) {
+                try (ResultSet resultSet = metaData.getTables(schemasSupported ? null : dbSchema, schemasSupported ? dbSchema : null,
+                        "%", TABLE_TYPES)) {
+                    while (resultSet.next()) {
+                        names.add(resultSet.getString("TABLE_NAME"));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    private List<String> listDbSchemas() throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (ResultSet resultSet = schemasSupported ? metaData.getSchemas() : metaData.getCatalogs()) {
+            while (resultSet.next()) {
+                String name = resultSet.getString(1);
+                if (name != null && !SYSTEM_SCHEMAS.contains(name.toLowerCase())) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    private List<DbTable> readTables(String catalog, String schema, Set<String> tableNames) throws SQLException {
+        Map<String, String> fullNames = new TreeMap<>(TABLE_ORDER);
+        Map<String, String> remarks = new HashMap<>();
+        try (ResultSet resultSet = metaData.getTables(catalog, schema, "%", TABLE_TYPES)) {
+            while (resultSet.next()) {
+                String name = resultSet.getString("TABLE_NAME");
+                String fullName = fullName(resultSet.getString("TABLE_CAT"), resultSet.getString("TABLE_SCHEM"), name);
+                if (tableNames == null || DbSchemaExtractor.matchesTableName(fullName, tableNames)) {
+                    fullNames.put(name, fullName);
+                    remarks.put(name, resultSet.getString("REMARKS"));
+                }
+            }
+        }
+        if (fullNames.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, List<DbColumn>> columns = new HashMap<>();
+        if (tableNames != null && fullNames.size() < PER_TABLE_LIMIT) {
+            for (String table : fullNames.keySet()) {
+                readColumns(catalog, schema, escape(table), fullNames.keySet(), readPrimaryKeys(catalog, schema, table), columns);
+            }
+        }
+        else {
+            readColumns(catalog, schema, "%", fullNames.keySet(), readPrimaryKeys(catalog, schema, fullNames.keySet()), columns);
+        }
+
+        List<DbTable> tables = new ArrayList<>(fullNames.size());
+        fullNames.forEach((name, fullName) -> tables.add(
+            new DbTable(name, fullName, nullToEmpty(remarks.get(name)), columns.getOrDefault(name, new ArrayList<>()))));
+        return tables;
+    }
+
+    private void readColumns(String catalog, String schema, String tableNamePattern, Set<String> tables,
+                             Map<String, Set<String>> primaryKeys, Map<String, List<DbColumn>> columns) throws SQLException {
+        try (ResultSet resultSet = metaData.getColumns(catalog, schema, tableNamePattern, "%")) {
+            while (resultSet.next()) {
+                String table = resultSet.getString("TABLE_NAME");
+                if (!tables.contains(table)) {
+                    continue;
+                }
+
+                String name = resultSet.getString("COLUMN_NAME");
+                int dataType = resultSet.getInt("DATA_TYPE");
+                boolean userDefined = dataType == Types.DISTINCT || dataType == Types.STRUCT || dataType == Types.JAVA_OBJECT;
+
+                columns.computeIfAbsent(table, key -> new ArrayList<>()).add(new DbColumn(
+                    name,
+                    resultSet.getString("TYPE_NAME"),
+                    dataType,
+                    null,
+                    userDefined,
+                    dataType == Types.ARRAY,
+                    resultSet.getInt("COLUMN_SIZE"),
+                    resultSet.getInt("DECIMAL_DIGITS"),
+                    resultSet.getInt("NULLABLE") == DatabaseMetaData.columnNullable,
+                    resultSet.getString("COLUMN_DEF"),
+                    nullToEmpty(resultSet.getString("REMARKS")),
+                    primaryKeys.getOrDefault(table, Collections.emptySet()).contains(name)));
+            }
+        }
+    }
+
+    /**
+     * Primary key columns by table names, read with a single call if the driver allows it.
+     * Some drivers (ie Oracle) fail or return nothing without a table name, then keys are read table by table.
+     */
+    private Map<String, Set<String>> readPrimaryKeys(String catalog, String schema, Set<String> tables) throws SQLException {
+        try {
+            Map<String, Set<String>> primaryKeys = readPrimaryKeys(catalog, schema, (String) null);
+            if (!primaryKeys.isEmpty() || tables.isEmpty()) {
+                return primaryKeys;
+            }
+        }
+        catch (SQLException e) {
+            // driver requires a table name
+        }
+
+        Map<String, Set<String>> primaryKeys = new HashMap<>();
+        for (String table : tables) {
+            primaryKeys.putAll(readPrimaryKeys(catalog, schema, table));
+        }
+        return primaryKeys;
+    }
+
+    private Map<String, Set<String>> readPrimaryKeys(String catalog, String schema, String table) throws SQLException {
+        Map<String, Set<String>> primaryKeys = new HashMap<>();
+        try (ResultSet resultSet = metaData.getPrimaryKeys(catalog, schema, table)) {
+            while (resultSet.next()) {
+                primaryKeys.computeIfAbsent(resultSet.getString("TABLE_NAME"), key -> new HashSet<>())
+                    .add(resultSet.getString("COLUMN_NAME"));
+            }
+        }
+        return primaryKeys;
+    }
+
+    private String escape(String tableName) throws SQLException {
+        String escape = metaData.getSearchStringEscape();
+        if (escape == null || escape.isEmpty()) {
+            return tableName;
+        }
+        return tableName
+            .replace(escape, escape + escape)
+            .replace("_", escape + "_")
+            .replace("%", escape + "%");
+    }
+
+    private static String fullName(String catalog, String schema, String table) {
+        StringBuilder fullName = new StringBuilder();
+        if (catalog != null) {
+            fullName.append(catalog).append('.');
+        }
+        if (schema != null) {
+            fullName.append(schema).append('.');
+        }
+        return fullName.append(table).toString();
+    }
+
+    private static String nullToEmpty(String string) {
+        return string != null ? string : "";
+    }
+}
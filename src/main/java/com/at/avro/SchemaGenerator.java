@@ -1,19 +1,50 @@
 package com.at.avro;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.formatters.Formatter;
+import com.at.avro.formatters.SchemaFormatter;
+import com.at.avro.formatters.SchemaKeyFormatter;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * Generates avro schema json based on AvroSchema model objects.
+ * Generation is thread safe, one FormatterConfig can be used by many threads.
  *
  * @author artur@callfire.com
  */
 public class SchemaGenerator {
 
+    // config is immutable, so templates and cached json of the default one are shared by all calls
+    private static final FormatterConfig DEFAULT_CONFIG = FormatterConfig.builder().build();
+
     /** Generates an avro schema based on default formatting configuration. */
     public static String generate(AvroSchema schema) {
-        FormatterConfig defaultConfig = FormatterConfig.builder().build();
-        return generate(schema, defaultConfig);
+        return generate(schema, DEFAULT_CONFIG);
     }
 
     /** Generates an avro schema based on a given FormatterConfig */
@@ -21,4 +52,195 @@ public class SchemaGenerator {
         Formatter<AvroSchema> formatter = config.getFormatter(schema);
         return formatter.toJson(schema, config);
     }
+
+    /**
+     * Writes an avro schema based on a given FormatterConfig straight into a sink (ie a Writer),
+     * in one pass without building intermediate strings. Custom formatters are asked for toJson, as in generate.
+     */
+    public static void generate(AvroSchema schema, FormatterConfig config, Appendable out) throws IOException {
+        Formatter<AvroSchema> formatter = config.getFormatter(schema);
+        Formatter.write(formatter, schema, config, out);
+    }
+
+    /**
+     * Writes an avro schema as UTF-8 bytes into a stream, encoding json as it's formatted without building strings.
+     * Stream is neither flushed nor closed.
+     */
+    public static void generateTo(AvroSchema schema, FormatterConfig config, OutputStream out) throws IOException {
+        Utf8Appendable utf8 = new Utf8Appendable(out, 8192);
+        generate(schema, config, utf8);
+        utf8.flush();
+    }
+
+    /**
+     * Generates value schema and key schema of a table together. Key fields are formatted once, for the value schema,
+     * and their json is reused in the key schema.
+     */
+    public static SchemaPair generateWithKey(AvroSchema schema, FormatterConfig config) {
+        Formatter<AvroSchema> formatter = config.getFormatter(schema);
+        SchemaKeyFormatter keyFormatter = new SchemaKeyFormatter();
+        if (formatter.getClass() != SchemaFormatter.class) {
+            // custom formatter, subclasses included, fields can't be shared
+            return new SchemaPair(formatter.toJson(schema, config), keyFormatter.toJson(schema, config));
+        }
+
+        // only key fields are in both schemas, the rest is written straight to the value schema
+        Map<AvroField, String> renderedFields = new IdentityHashMap<>();
+        for (AvroField key : schema.getKeys()) {
+            renderedFields.put(key, null);
+        }
+        StringBuilder valueSchema = new StringBuilder();
+        StringBuilder keySchema = new StringBuilder();
+        try {
+            ((SchemaFormatter) formatter).writeJson(schema, config, valueSchema, renderedFields);
+            keyFormatter.writeJson(schema, config, keySchema, renderedFields);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new SchemaPair(valueSchema.toString(), keySchema.toString());
+    }
+
+    /**
+     * Generates avro schemas on all cores (common fork-join pool).
+     *
+     * @return schemas json in the order of given schemas
+     */
+    public static List<String> generateParallel(List<AvroSchema> schemas, FormatterConfig config) {
+        return schemas.parallelStream()
+            .map(schema -> generate(schema, config))
+            .collect(toList());
+    }
+
+    /** Same as {@link #generateParallel(List, FormatterConfig)}, but runs on a given pool. */
+    public static List<String> generateParallel(List<AvroSchema> schemas, FormatterConfig config, ForkJoinPool pool) {
+        // parallel stream started from a pool's task runs in that pool
+        return pool.submit(() -> generateParallel(schemas, config)).join();
+    }
+
+    /**
+     * Writes schemas into "&lt;schema name&gt;.avsc" files of a directory, creating it if needed.
+     * Files which already have the same content are left untouched.
+     *
+     * @return number of files written
+     * @throws IllegalArgumentException if schema names repeat (ignoring case, as file names do on some file systems)
+     *                                  or can't be used as file names in the directory
+     */
+    public static int generateAll(Collection<AvroSchema> schemas, FormatterConfig config, Path outputDir) throws IOException {
+        return generateAll(schemas, config, outputDir, false);
+    }
+
+    /**
+     * Same as {@link #generateAll(Collection, FormatterConfig, Path)}, but with an option to generate and write
+     * schemas on all cores.
+     */
+    public static int generateAll(Collection<AvroSchema> schemas, FormatterConfig config, Path outputDir, boolean parallel) throws IOException {
+        Set<String> names = new HashSet<>();
+        for (AvroSchema schema : schemas) {
+            if (!names.add(schema.getName().toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("Several schemas are named " + schema.getName());
+            }
+            schemaFile(outputDir, schema);
+        }
+        Files.createDirectories(outputDir);
+
+        // buffers are reused between schemas written by the same thread
+        ThreadLocal<SchemaFileWriter> writers = ThreadLocal.withInitial(SchemaFileWriter::new);
+        Stream<AvroSchema> stream = parallel ? schemas.parallelStream() : schemas.stream();
+        try {
+            return stream
+                .mapToInt(schema -> {
+                    try {
+                        return writers.get().write(schema, config, schemaFile(outputDir, schema)) ? 1 : 0;
+                    }
+                    catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                })
+                .sum();
+        }
+        catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /** Resolves a schema file, names with path separators or other directories in them are rejected. */
+    private static Path schemaFile(Path outputDir, AvroSchema schema) {
+        String fileName = schema.getName() + ".avsc";
+        Path name = outputDir.getFileSystem().getPath(fileName);
+        if (name.getRoot() != null || name.getNameCount() != 1 || !fileName.equals(name.toString())) {
+            throw new IllegalArgumentException("Schema name can't be used as a file name: " + schema.getName());
+        }
+        return outputDir.resolve(name);
+    }
+
+    /** Renders schemas into UTF-8 bytes and writes them to files if they differ from what's there already. */
+    private static class SchemaFileWriter {
+
+        private final StringBuilder json = new StringBuilder(4096);
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        private ByteBuffer bytes = ByteBuffer.allocate(8192);
+        private ByteBuffer existing = ByteBuffer.allocate(8192);
+
+        boolean write(AvroSchema schema, FormatterConfig config, Path file) throws IOException {
+            json.setLength(0);
+            generate(schema, config, json);
+            encode();
+
+            if (hasSameContent(file)) {
+                return false;
+            }
+            try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            }
+            return true;
+        }
+
+        private void encode() throws CharacterCodingException {
+            CharBuffer chars = CharBuffer.wrap(json);
+            encoder.reset();
+            bytes.clear();
+            CoderResult result;
+            while ((result = encoder.encode(chars, bytes, true)).isOverflow()) {
+                bytes = grow(bytes);
+            }
+            if (result.isError()) {
+                result.throwException();
+            }
+            while (encoder.flush(bytes).isOverflow()) {
+                bytes = grow(bytes);
+            }
+            bytes.flip();
+        }
+
+        private boolean hasSameContent(Path file) throws IOException {
+            int size = bytes.remaining();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                if (channel.size() != size) {
+                    return false;
+                }
+                if (existing.capacity() < size) {
+                    existing = ByteBuffer.allocate(size);
+                }
+                existing.clear().limit(size);
+                while (existing.hasRemaining() && channel.read(existing) >= 0) {
+                    // reading till the buffer is full
+                }
+                existing.flip();
+                return existing.equals(bytes);
+            }
+            catch (NoSuchFileException e) {
+                return false;
+            }
+        }
+
+        private static ByteBuffer grow(ByteBuffer buffer) {
+            ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.flip();
+            return grown.put(buffer);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.at.avro;
+
+/**
+ * Value schema json of a table together with its key schema json.
+ *
+ * @see SchemaGenerator#generateWithKey(AvroSchema, com.at.avro.config.FormatterConfig)
+ */
+public class SchemaPair {
+
+    private final String valueSchema;
+    private final String keySchema;
+
+    SchemaPair(String valueSchema, String keySchema) {
+        this.valueSchema = valueSchema;
+        this.keySchema = keySchema;
+    }
+
+    public String getValueSchema() {
+        return valueSchema;
+    }
+
+    /** Schema of primary key fields, named with _KEY suffix (see SchemaKeyFormatter). */
+    public String getKeySchema() {
+        return keySchema;
+    }
+}
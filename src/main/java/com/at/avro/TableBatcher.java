@@ -0,0 +1,145 @@
+package com.at.avro;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.at.avro.config.AvroConfig;
+
+/**
+ * Collects single table requests coming from many callers and serves them in batches,
+ * one crawl per batch instead of one crawl per table.
+ *
+ * A batch is crawled when the window since its first request is over or when it reaches max batch size,
+ * whatever comes first. Each caller gets a future of its own AvroSchema, completed with null if the table doesn't exist.
+ *
+ * @see DbSchemaExtractor#getForTablesByName(AvroConfig, String, List, java.util.Collection)
+ */
+public class TableBatcher implements AutoCloseable {
+
+    private final DbSchemaExtractor extractor;
+    private final AvroConfig avroConfig;
+    private final String dbSchemaName;
+    private final List<AvroField> extraFields;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "table-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Duration window = Duration.ofMillis(10);
+    private int maxBatchSize = 500;
+
+    private Map<String, CompletableFuture<AvroSchema>> pending = new LinkedHashMap<>();
+    private boolean closed;
+
+    public TableBatcher(DbSchemaExtractor extractor, AvroConfig avroConfig, String dbSchemaName, List<AvroField> extraFields) {
+        this.extractor = extractor;
+        this.avroConfig = avroConfig;
+        this.dbSchemaName = dbSchemaName;
+        this.extraFields = extraFields;
+    }
+
+    /** How long the first request of a batch waits for others. Default is 10ms. */
+    public TableBatcher setWindow(Duration window) {
+        this.window = window;
+        return this;
+    }
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    /** Batch is crawled right away once it has that many tables. Default is 500. */
+    public TableBatcher setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("max batch size should be positive: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Requests AvroSchema of a table. Requests of the same table within one batch share a future.
+     *
+     * @throws IllegalStateException if the batcher is closed
+     */
+    public synchronized CompletableFuture<AvroSchema> request(String tableName) {
+        if (closed) {
+            throw new IllegalStateException("table batcher is closed");
+        }
+
+        CompletableFuture<AvroSchema> future = pending.get(tableName);
+        if (future != null) {
+            return future;
+        }
+
+        future = new CompletableFuture<>();
+        pending.put(tableName, future);
+        if (pending.size() == 1) {
+            Map<String, CompletableFuture<AvroSchema>> batch = pending;
+            executor.schedule(() -> flush(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (pending.size() >= maxBatchSize) {
+            Map<String, CompletableFuture<AvroSchema>> batch = pending;
+            executor.execute(() -> flush(batch));
+        }
+        return future;
+    }
+
+    /**
+     * Crawls pending requests without waiting for the window to close.
+     * If the crawl fails, futures of the batch are completed with the failure and it is rethrown.
+     */
+    public void flush() {
+        Map<String, CompletableFuture<AvroSchema>> batch;
+        synchronized (this) {
+            batch = pending;
+        }
+        flush(batch);
+    }
+
+    /** Serves pending requests and stops the batcher, requests made after that fail. */
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+        }
+        try {
+            flush();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void flush(Map<String, CompletableFuture<AvroSchema>> batch) {
+        synchronized (this) {
+            // batch could be served already, ie by a flush triggered with max batch size
+            if (batch != pending || batch.isEmpty()) {
+                return;
+            }
+            pending = new LinkedHashMap<>();
+        }
+
+        try {
+            Map<String, AvroSchema> schemas = extractor.getForTablesByName(avroConfig, dbSchemaName, extraFields, batch.keySet());
+            batch.forEach((tableName, future) -> future.complete(schemas.get(tableName)));
+        }
+        catch (Throwable e) {
+            // callers wait on futures, so they must not be left pending whatever went wrong
+            batch.values().forEach(future -> future.completeExceptionally(e));
+            throw e;
+        }
+    }
+}
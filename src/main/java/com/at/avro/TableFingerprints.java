@@ -0,0 +1,121 @@
+package com.at.avro;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import schemacrawler.schema.Table;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Fingerprints of table structures captured during previous extraction.
+ * Used to skip tables which didn't change since then.
+ *
+ * Fingerprint covers table name and remarks and, for each column, its name, type name, JDBC type code,
+ * full type declaration (ie enum symbols), array and user defined flags, size, decimal digits, nullability,
+ * default value, remarks and primary key membership. AvroConfig is not part of it,
+ * so start with empty fingerprints whenever AvroConfig changes.
+ *
+ * Only tables checked since fingerprints were loaded are stored, so dropped tables are forgotten.
+ * Keep a file per set of DB schemas checked together.
+ *
+ * @see DbSchemaExtractor#getChanged(com.at.avro.config.AvroConfig, String, java.util.List, TableFingerprints)
+ */
+public class TableFingerprints {
+
+    private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final Set<String> checked = ConcurrentHashMap.newKeySet();
+
+    /** Loads fingerprints stored by {@link #store(Path)}. Returns empty fingerprints if the file doesn't exist. */
+    public static TableFingerprints load(Path file) {
+        TableFingerprints result = new TableFingerprints();
+        if (!Files.exists(file)) {
+            return result;
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, UTF_8)) {
+            properties.load(reader);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Can not read table fingerprints from " + file, e);
+        }
+        properties.stringPropertyNames().forEach(name -> result.fingerprints.put(name, properties.getProperty(name)));
+        return result;
+    }
+
+    /** Stores fingerprints of tables checked since these fingerprints were loaded, others are dropped. */
+    public void store(Path file) {
+        fingerprints.keySet().retainAll(checked);
+        Properties properties = new Properties();
+        properties.putAll(fingerprints);
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file, UTF_8)) {
+                properties.store(writer, null);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException("Can not write table fingerprints to " + file, e);
+        }
+    }
+
+    /**
+     * Remembers current fingerprint of a table.
+     * Returns true if the table is new or changed since its fingerprint was taken last time.
+     */
+    public boolean update(Table table) {
+        return update(DbTable.of(table));
+    }
+
+    public boolean update(DbTable table) {
+        String fingerprint = fingerprint(table);
+        checked.add(table.getFullName());
+        String previous = fingerprints.put(table.getFullName(), fingerprint);
+        return !fingerprint.equals(previous);
+    }
+
+    /** Returns fingerprints by full table names. */
+    public Map<String, String> asMap() {
+        return new TreeMap<>(fingerprints);
+    }
+
+    static String fingerprint(DbTable table) {
+        StringBuilder description = new StringBuilder();
+        append(description, table.getName());
+        append(description, table.getRemarks());
+
+        for (DbColumn column : table.getColumns()) {
+            append(description, column.getName());
+            append(description, column.getTypeName());
+            append(description, column.getJdbcType());
+            append(description, column.getColumnType());
+            append(description, column.isArray());
+            append(description, column.isUserDefined());
+            append(description, column.getSize());
+            append(description, column.getDecimalDigits());
+            append(description, column.isNullable());
+            append(description, column.getDefaultValue());
+            append(description, column.getRemarks());
+            append(description, column.isPartOfPrimaryKey());
+        }
+        return Digests.sha256(description.toString());
+    }
+
+    private static void append(StringBuilder description, Object value) {
+        // length prefix keeps values like ("ab", "c") and ("a", "bc") apart
+        String string = String.valueOf(value);
+        description.append(string.length()).append(':').append(string).append(';');
+    }
+}
@@ -0,0 +1,92 @@
+package com.at.avro;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Appendable encoding chars to UTF-8 straight into a byte buffer, which is written to a stream when full.
+ * Unpaired surrogates are written as '?', like String.getBytes does.
+ */
+final class Utf8Appendable implements Appendable {
+
+    private final OutputStream out;
+    private final byte[] buffer;
+    private int position;
+    private char highSurrogate;
+
+    Utf8Appendable(OutputStream out, int bufferSize) {
+        this.out = out;
+        this.buffer = new byte[Math.max(bufferSize, 4)];
+    }
+
+    @Override
+    public Appendable append(CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Appendable append(char c) throws IOException {
+        if (buffer.length - position < 4) {
+            writeBuffer();
+        }
+
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xf0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3f));
+                return this;
+            }
+            buffer[position++] = '?';
+        }
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        }
+        else if (c < 0x800) {
+            buffer[position++] = (byte) (0xc0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        }
+        else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        }
+        else if (Character.isLowSurrogate(c)) {
+            buffer[position++] = '?';
+        }
+        else {
+            buffer[position++] = (byte) (0xe0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+            buffer[position++] = (byte) (0x80 | (c & 0x3f));
+        }
+        return this;
+    }
+
+    /** Writes buffered bytes to the stream, the stream itself is not flushed or closed. */
+    void flush() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            if (position == buffer.length) {
+                writeBuffer();
+            }
+            buffer[position++] = '?';
+        }
+        writeBuffer();
+    }
+
+    private void writeBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -7,6 +7,8 @@ import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import com.at.avro.AvroSchema;
+import com.at.avro.DbTable;
+import com.at.avro.mappers.AvroNameSanitizer;
 
 import schemacrawler.schema.Table;
 
@@ -28,6 +30,9 @@ public class AvroConfig {
     private boolean useSqlCommentsAsDoc = false;
     private boolean timesInMicroseconds = false;
     private boolean timestampsInMicroseconds = false;
+    private boolean lazyFields = false;
+
+    private CrawlProfile crawlProfile = CrawlProfile.STANDARD;
 
     private Class<?> decimalTypeClass = BigDecimal.class;
     private Class<?> dateTypeClass = LocalDateTime.class;
@@ -38,6 +43,10 @@ public class AvroConfig {
     private Function<String, String> fieldNameMapper = columnName -> columnName;
     private Function<String, String> unknownTypeResolver = dbType -> { throw new IllegalArgumentException("unknown data type: " + dbType); };
     private BiConsumer<AvroSchema, Table> avroSchemaPostProcessor = (schema, table) -> {};
+    private BiConsumer<AvroSchema, DbTable> tablePostProcessor = (schema, table) -> {};
+    // null until set, or until an extractor or getTypeRegistry picks one
+    private volatile TypeRegistry typeRegistry;
+    private AvroNameSanitizer nameSanitizer = AvroNameSanitizer.stripQuotes();
 
     public AvroConfig(String namespace) {
         this.namespace = namespace;
@@ -152,9 +161,53 @@ public class AvroConfig {
         return unknownTypeResolver;
     }
 
+    /**
+     * Set mappers of DB types to avro types. When none is set, DbSchemaExtractor picks
+     * TypeRegistry.forDatabase(...) of the DB it reads from, see {@link #resolveTypeRegistry(String)}.
+     * Set one explicitly to extend it, ie TypeRegistry.forDatabase("PostgreSQL").register(...).
+     */
+    public AvroConfig setTypeRegistry(TypeRegistry typeRegistry) {
+        this.typeRegistry = typeRegistry;
+        return this;
+    }
+
+    /** Returns the registry in use. If none was set or picked by an extractor yet, default one is set and returned. */
+    public TypeRegistry getTypeRegistry() {
+        TypeRegistry registry = typeRegistry;
+        return registry != null ? registry : resolveTypeRegistry(null);
+    }
+
+    /**
+     * Returns the registry in use. If none was set or picked yet, sets the registry of dialects of a given DB first,
+     * so the first DB this config is used with decides its mappings.
+     *
+     * @param databaseProductName as returned by DatabaseMetaData#getDatabaseProductName, null for default registry
+     */
+    public synchronized TypeRegistry resolveTypeRegistry(String databaseProductName) {
+        if (typeRegistry == null) {
+            typeRegistry = databaseProductName != null ? TypeRegistry.forDatabase(databaseProductName) : TypeRegistry.defaults();
+        }
+        return typeRegistry;
+    }
+
+    /**
+     * Set how table and column names are cleaned before schema and field name mappers get them.
+     * Quotes and backticks are removed by default, AvroNameSanitizer.avroNames() also makes names valid for avro.
+     */
+    public AvroConfig setNameSanitizer(AvroNameSanitizer nameSanitizer) {
+        this.nameSanitizer = nameSanitizer;
+        return this;
+    }
+
+    public AvroNameSanitizer getNameSanitizer() {
+        return nameSanitizer;
+    }
+
     /**
      * Set a callback that will be called after avro model was built.
      * Schema model is ready by this point, but you can still modify it by adding custom properties.
+     * Table is null when schemas are extracted with {@link ExtractorEngine#JDBC_METADATA},
+     * use {@link #setTablePostProcessor(BiConsumer)} to get table details with either engine.
      */
     public AvroConfig setAvroSchemaPostProcessor(BiConsumer<AvroSchema, Table> avroSchemaPostProcessor) {
         this.avroSchemaPostProcessor = avroSchemaPostProcessor;
@@ -165,6 +218,19 @@ public class AvroConfig {
         return avroSchemaPostProcessor;
     }
 
+    /**
+     * Set a callback that will be called after avro model was built, with table details read by any engine.
+     * It's called after AvroSchemaPostProcessor.
+     */
+    public AvroConfig setTablePostProcessor(BiConsumer<AvroSchema, DbTable> tablePostProcessor) {
+        this.tablePostProcessor = tablePostProcessor;
+        return this;
+    }
+
+    public BiConsumer<AvroSchema, DbTable> getTablePostProcessor() {
+        return tablePostProcessor;
+    }
+
     /**
      * Set to true to use SQL comments at table and field level as optional avro doc fields.
      */
@@ -208,4 +274,30 @@ public class AvroConfig {
     public String getDefaultTimestampLogicalType() {
         return timestampsInMicroseconds ? TIMESTAMP_MICROS : TIMESTAMP_MILLIS;
     }
+
+    /**
+     * Set to true to build AvroSchema fields and keys only when they are first asked for, ie to list tables of a catalog
+     * or to generate key schemas only. This config should not be changed until fields are built then.
+     * Default is false, fields are built with AvroSchema.
+     */
+    public AvroConfig setLazyFields(boolean lazyFields) {
+        this.lazyFields = lazyFields;
+        return this;
+    }
+
+    public boolean isLazyFields() {
+        return lazyFields;
+    }
+
+    /**
+     * Set how much db metadata is crawled. CrawlProfile.MINIMAL is much faster on big catalogs. Default is STANDARD.
+     */
+    public AvroConfig setCrawlProfile(CrawlProfile crawlProfile) {
+        this.crawlProfile = crawlProfile;
+        return this;
+    }
+
+    public CrawlProfile getCrawlProfile() {
+        return crawlProfile;
+    }
 }
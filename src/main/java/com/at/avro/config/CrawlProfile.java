@@ -0,0 +1,16 @@
+package com.at.avro.config;
+
+/**
+ * Defines how much db metadata is crawled to build avro models.
+ */
+public enum CrawlProfile {
+
+    /** SchemaCrawler's standard info level, including column data types, indexes, foreign keys and routines. */
+    STANDARD,
+
+    /**
+     * Only tables, columns and primary keys. Additional table and column attributes, which hold
+     * remarks or enum definitions on some dbs, are fetched only when AvroConfig needs them.
+     */
+    MINIMAL
+}
@@ -0,0 +1,17 @@
+package com.at.avro.config;
+
+/**
+ * Defines how db metadata is read by DbSchemaExtractor.
+ */
+public enum ExtractorEngine {
+
+    /** SchemaCrawler builds a full catalog, which is passed to AvroSchemaPostProcessor and can be cached on disk. */
+    SCHEMA_CRAWLER,
+
+    /**
+     * A few bulk DatabaseMetaData calls per DB schema, without SchemaCrawler's object graph.
+     * Faster and lighter, but AvroSchemaPostProcessor gets a null table (table post processor works), catalog cache is not used,
+     * and enums are represented as strings since their symbols are not part of standard metadata.
+     */
+    JDBC_METADATA
+}
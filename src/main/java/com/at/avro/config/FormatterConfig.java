@@ -1,7 +1,10 @@
 package com.at.avro.config;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 import com.at.avro.AvroField;
 import com.at.avro.AvroSchema;
@@ -10,36 +13,97 @@ import com.at.avro.formatters.*;
 import com.at.avro.types.*;
 import com.at.avro.types.Enum;
 
+import static java.util.Arrays.asList;
+
 /**
  * Avro schema json formatters configuration.
  * It has default formatters for each Avro bean (ie AvroSchema, AvroField, etc).
  * They can be customized by implementing Formatter interface and registering it as FormatterConfig::setFormatter.
  *
+ * A built config is immutable and can be shared by threads generating schemas concurrently,
+ * as long as custom formatters are thread safe as well (built-in ones are stateless).
+ *
  * @author artur@callfire.com
  */
 public class FormatterConfig {
 
-    private String indent;
-    private String lineSeparator;
-    private String colon;
-    private boolean prettyPrintFields;
-    private boolean prettyPrintSchema;
-    private boolean lowerCaseNames;
-
-    private Map<Class, Formatter> formatters = new HashMap<Class, Formatter>() {{
-            put(AvroSchema.class, new SchemaFormatter());
-            put(AvroField.class, new FieldFormatter());
-            put(AvroType.class, new TypeFormatter());
-            put(Date.class, new DateFormatter());
-            put(Time.class, new TimeFormatter());
-            put(Timestamp.class, new TimestampFormatter());
-            put(Enum.class, new EnumFormatter());
-            put(Primitive.class, new PrimitiveFormatter());
-            put(Decimal.class, new DecimalFormatter());
-            put(Array.class, new ArrayFormatter());
-    }};
-
-    private FormatterConfig() {
+    private final String indent;
+    private final String lineSeparator;
+    private final String colon;
+    private final boolean prettyPrintFields;
+    private final boolean prettyPrintSchema;
+    private final boolean lowerCaseNames;
+    private final boolean minified;
+
+    // whitespace and separators are computed once when config is built, formatters only append them
+    private final String[] indents;
+    private final String lineEnd;
+    private final String fieldsSeparator;
+    private final String fieldLineSeparator;
+    private final String fieldValueIndent;
+    private final String fieldClosingIndent;
+    private final String space;
+
+    private final Map<Class, Formatter> formatters;
+
+    // formatters resolved by class hierarchy, once per class
+    private final ClassValue<Formatter> dispatch = new ClassValue<Formatter>() {
+        @Override
+        protected Formatter computeValue(Class<?> dtoClass) {
+            for (Class<?> c = dtoClass; c != null; c = c.getSuperclass()) {
+                Formatter formatter = formatters.get(c);
+                if (formatter != null) {
+                    return formatter;
+                }
+            }
+            return null;
+        }
+    };
+
+    private final Map<String, JsonTemplate> templates = new ConcurrentHashMap<>();
+
+    private static final int MAX_CACHED_JSON = 10_000;
+    private final Map<Object, String> cachedJson = new ConcurrentHashMap<>();
+
+    private FormatterConfig(Builder builder) {
+        Map<Class, Formatter> formatters = new HashMap<>();
+        formatters.put(AvroSchema.class, new SchemaFormatter());
+        formatters.put(AvroField.class, new FieldFormatter());
+        formatters.put(AvroType.class, new TypeFormatter());
+        formatters.put(Date.class, new DateFormatter());
+        formatters.put(Time.class, new TimeFormatter());
+        formatters.put(Timestamp.class, new TimestampFormatter());
+        formatters.put(Enum.class, new EnumFormatter());
+        formatters.put(Primitive.class, new PrimitiveFormatter());
+        formatters.put(Decimal.class, new DecimalFormatter());
+        formatters.put(Array.class, new ArrayFormatter());
+        formatters.putAll(builder.formatters);
+        this.formatters = Collections.unmodifiableMap(formatters);
+
+        this.minified = builder.minified;
+        this.prettyPrintSchema = builder.prettyPrintSchema && !minified;
+        this.prettyPrintFields = builder.prettyPrintFields && prettyPrintSchema;
+        this.lineSeparator = prettyPrintSchema ? "\n" : "";
+        this.colon = builder.addSpaceAfterColon && !minified ? ": " : ":";
+        this.indent = prettyPrintSchema ? builder.indent : "";
+        this.lowerCaseNames = builder.lowerCaseNames;
+        this.space = minified ? "" : " ";
+
+        this.indents = new String[Builder.MAX_CACHED_INDENT + 1];
+        this.indents[0] = "";
+        for (int i = 1; i < indents.length; i++) {
+            indents[i] = indents[i - 1] + indent;
+        }
+        this.lineEnd = (prettyPrintSchema ? "" : space) + lineSeparator;
+        this.fieldsSeparator = "," + lineSeparator;
+        this.fieldLineSeparator = prettyPrintFields ? "\n" : space;
+        this.fieldValueIndent = prettyPrintFields ? indent(3) : "";
+        this.fieldClosingIndent = prettyPrintFields ? indent(2) : "";
+
+        for (String template : asList(DateFormatter.TEMPLATE, TimeFormatter.TEMPLATE, TimestampFormatter.TEMPLATE,
+                                      DecimalFormatter.TEMPLATE, EnumFormatter.TEMPLATE, ArrayFormatter.TEMPLATE)) {
+            template(template);
+        }
     }
 
     public String indent() {
@@ -47,11 +111,44 @@ public class FormatterConfig {
     }
 
     public String indent(int times) {
-        String result = "";
-        for (int i = 0; i < times; i++) {
-            result += indent();
+        if (times < indents.length) {
+            return indents[times];
+        }
+        StringBuilder result = new StringBuilder(indents[indents.length - 1]);
+        for (int i = indents.length - 1; i < times; i++) {
+            result.append(indent);
         }
-        return result;
+        return result.toString();
+    }
+
+    /** Ends a line of schema attributes: line separator, or a space when schema is written in one line. */
+    public String lineEnd() {
+        return lineEnd;
+    }
+
+    /** Separates fields in the fields list. */
+    public String fieldsSeparator() {
+        return fieldsSeparator;
+    }
+
+    /** Separates attributes of a field: new line when fields are pretty printed, a space otherwise. */
+    public String fieldLineSeparator() {
+        return fieldLineSeparator;
+    }
+
+    /** Indent of field attributes. */
+    public String fieldValueIndent() {
+        return fieldValueIndent;
+    }
+
+    /** Indent of field's closing brace. */
+    public String fieldClosingIndent() {
+        return fieldClosingIndent;
+    }
+
+    /** Pads brackets and separators inside a line: a space, or nothing when json is minified. */
+    public String space() {
+        return space;
     }
 
     public String colon() {
@@ -74,11 +171,41 @@ public class FormatterConfig {
         return lowerCaseNames;
     }
 
+    public boolean minified() {
+        return minified;
+    }
+
+    /** Returns a json template compiled for this config, templates of built-in formatters are compiled by build(). */
+    public JsonTemplate template(String template) {
+        return templates.computeIfAbsent(template, key -> JsonTemplate.compile(key, colon, minified));
+    }
+
+    /**
+     * Returns json of a value rendered once per config, ie of a field type repeated across a catalog.
+     * Value must implement equals and hashCode, and its json must depend only on the value and this config.
+     * The cache is cleared once it holds 10 000 values, so a catalog with many distinct types
+     * keeps caching the ones it currently renders.
+     */
+    public <T> String cachedJson(T value, Function<T, String> renderer) {
+        String json = cachedJson.get(value);
+        if (json == null) {
+            // not computeIfAbsent - renderer may call nested formatters which use the cache too
+            json = renderer.apply(value);
+            if (cachedJson.size() >= MAX_CACHED_JSON) {
+                cachedJson.clear();
+            }
+            cachedJson.putIfAbsent(value, json);
+        }
+        return json;
+    }
+
+    /** Returns a formatter registered for the class of a given dto or for the closest of its superclasses. */
     public <T> Formatter<T> getFormatter(T dto) {
-        if (!formatters.containsKey(dto.getClass())) {
+        Formatter formatter = dispatch.get(dto.getClass());
+        if (formatter == null) {
             throw new IllegalArgumentException("Formatter not found for " + dto.getClass().getSimpleName());
         }
-        return formatters.get(dto.getClass());
+        return formatter;
     }
 
     public static Builder builder() {
@@ -86,12 +213,15 @@ public class FormatterConfig {
     }
 
     public static class Builder {
+        private static final int MAX_CACHED_INDENT = 8;
+
         private Map<Class, Formatter> formatters = new HashMap<>();
         private boolean prettyPrintSchema = true;
         private boolean prettyPrintFields = false;
         private boolean addSpaceAfterColon = true;
         private String indent = "  ";
         private boolean lowerCaseNames = false;
+        private boolean minified = false;
 
         public <T> Builder setFormatter(Class<T> dtoClass, Formatter<T> formatter) {
             formatters.put(dtoClass, formatter);
@@ -125,16 +255,17 @@ public class FormatterConfig {
             return this;
         }
 
+        /**
+         * True - to write schema as the smallest json, without any whitespace (ie for schema registry payloads).
+         * Pretty printing options are ignored then.
+         */
+        public Builder setMinified(boolean minified) {
+            this.minified = minified;
+            return this;
+        }
+
         public FormatterConfig build() {
-            FormatterConfig config = new FormatterConfig();
-            config.formatters.putAll(this.formatters);
-            config.lineSeparator = prettyPrintSchema ? "\n" : "";
-            config.colon = addSpaceAfterColon ? ": " : ":";
-            config.prettyPrintFields = prettyPrintFields && prettyPrintSchema;
-            config.prettyPrintSchema = prettyPrintSchema;
-            config.indent = prettyPrintSchema ? indent : "";
-            config.lowerCaseNames = lowerCaseNames;
-            return config;
+            return new FormatterConfig(this);
         }
     }
 }
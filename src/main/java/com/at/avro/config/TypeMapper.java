@@ -0,0 +1,61 @@
+package com.at.avro.config;
+
+import java.util.function.Function;
+
+import com.at.avro.DbColumn;
+import com.at.avro.types.Array;
+import com.at.avro.types.Primitive;
+import com.at.avro.types.Type;
+import com.at.avro.types.TypeFactory;
+
+/**
+ * Maps a column of some DB type to avro type. Nullability is handled separately, mapper returns the type itself.
+ * Mappers registered for JDBC type codes may return null to leave a column to a mapper of its type name.
+ *
+ * @see TypeRegistry
+ */
+@FunctionalInterface
+public interface TypeMapper {
+
+    Type map(DbColumn column, AvroConfig config);
+
+    /** Maps columns to the same primitive type, ie "string". */
+    static TypeMapper primitive(String primitiveType) {
+        Primitive primitive = TypeFactory.primitive(primitiveType);
+        return (column, config) -> primitive;
+    }
+
+    /** Maps columns to decimal logical type with their size and decimal digits. */
+    static TypeMapper decimal() {
+        return (column, config) -> TypeFactory.decimal(column.getSize(), column.getDecimalDigits(), config);
+    }
+
+    static TypeMapper date() {
+        return (column, config) -> TypeFactory.date(config);
+    }
+
+    static TypeMapper time() {
+        return (column, config) -> TypeFactory.time(config);
+    }
+
+    static TypeMapper timestamp() {
+        return (column, config) -> TypeFactory.timestamp(config);
+    }
+
+    /**
+     * Maps array columns, items are mapped by the type name a given function takes out of array type name
+     * (ie int4 out of _int4). Unknown items go to {@link AvroConfig#getUnknownTypeResolver()}.
+     * Items keep their avro type, logical types included; decimal items take size and decimal digits of the array column.
+     */
+    static TypeMapper array(Function<String, String> itemsTypeName) {
+        return (column, config) -> {
+            String itemsType = itemsTypeName.apply(column.getTypeName());
+            TypeMapper mapper = config.getTypeRegistry().find(itemsType);
+            Type items = mapper != null ? mapper.map(column, config) : null;
+            if (items == null) {
+                items = TypeFactory.primitive(config.getUnknownTypeResolver().apply(TypeRegistry.normalize(itemsType)));
+            }
+            return TypeFactory.intern(new Array(items));
+        };
+    }
+}
@@ -0,0 +1,137 @@
+package com.at.avro.config;
+
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.at.avro.DbColumn;
+import com.at.avro.dialects.Dialect;
+import com.at.avro.types.Type;
+
+/**
+ * Type mappers by JDBC type codes (java.sql.Types) and by DB type names (case insensitive).
+ * A column is mapped by its JDBC type code first. Its type name is used when there is no mapper for the code,
+ * or when that mapper returns null (ie MySQL reports enums as CHAR, so its CHAR mapper leaves enums to "enum" one).
+ * Types without a mapper go to {@link AvroConfig#getUnknownTypeResolver()}.
+ *
+ * Mappers by type names are looked up once per type name as it comes from the driver,
+ * so mapping a column takes one or two hash lookups.
+ *
+ * Default registry maps common type names only. Registry of a DB dialect ({@link #forDatabase(String)}) maps columns
+ * by their JDBC type codes and adds types specific to that DB (ie MySQL enums, Oracle numbers, PostgreSQL arrays).
+ * DbSchemaExtractor picks it for the DB it reads from, unless AvroConfig has a registry set.
+ * Register more mappings to support other DBs or to change defaults:
+ * <code>
+ *     avroConfig.getTypeRegistry().register("money", TypeMapper.primitive("string"))
+ * </code>
+ */
+public class TypeRegistry {
+
+    private static final Map<String, TypeMapper> DEFAULTS = new HashMap<>();
+
+    private static final TypeMapper NOT_FOUND = (column, config) -> null;
+    private static final int MAX_RESOLVED = 10_000;
+
+    static {
+        registerPrimitive("int", "integer", "int", "int identity", "int unsigned", "int2", "int4", "mediumint",
+            "mediumint unsigned", "smallint", "smallint unsigned", "serial", "smallserial", "tinyint", "tinyint unsigned");
+        registerPrimitive("bytes", "tinyblob", "blob", "binary", "varbinary", "longvarbinary");
+        registerPrimitive("long", "int8", "bigserial", "bigint", "bigint unsigned");
+        registerPrimitive("boolean", "bit", "bool", "boolean");
+        registerPrimitive("string", "char", "bpchar", "varchar", "varchar2", "text", "longtext", "longvarchar",
+            "longnvarchar", "nvarchar", "nvarchar2", "nclob", "macaddr", "inet", "cidr", "uuid", "xml", "json", "nchar");
+        registerPrimitive("double", "double precision", "float", "float8", "double");
+        registerPrimitive("float", "float4", "real");
+
+        DEFAULTS.put("decimal", TypeMapper.decimal());
+        DEFAULTS.put("numeric", TypeMapper.decimal());
+        DEFAULTS.put("date", TypeMapper.date());
+        DEFAULTS.put("timestamp", TypeMapper.timestamp());
+        DEFAULTS.put("datetime", TypeMapper.timestamp());
+        DEFAULTS.put("time", TypeMapper.time());
+    }
+
+    private final Map<String, TypeMapper> byName = new ConcurrentHashMap<>();
+    private final Map<Integer, TypeMapper> byJdbcType = new ConcurrentHashMap<>();
+
+    // mappers by type names as drivers report them, to skip normalizing names of each column
+    private final Map<String, TypeMapper> resolved = new ConcurrentHashMap<>();
+
+    /** Creates an empty registry. */
+    public TypeRegistry() {
+    }
+
+    /** Creates a registry with default mappings. */
+    public static TypeRegistry defaults() {
+        TypeRegistry registry = new TypeRegistry();
+        registry.byName.putAll(DEFAULTS);
+        return registry;
+    }
+
+    /**
+     * Creates a registry with default mappings and with mappings of dialects supporting a given DB,
+     * see {@link Dialect}.
+     *
+     * @param databaseProductName as returned by DatabaseMetaData#getDatabaseProductName
+     */
+    public static TypeRegistry forDatabase(String databaseProductName) {
+        TypeRegistry registry = defaults();
+        for (Dialect dialect : Dialect.forDatabase(databaseProductName)) {
+            dialect.registerTypes(registry);
+        }
+        return registry;
+    }
+
+    /** Maps columns of a given DB type name, ie "int4" or "double precision". Replaces mapper registered before. */
+    public TypeRegistry register(String typeName, TypeMapper mapper) {
+        byName.put(normalize(typeName), mapper);
+        resolved.clear();
+        return this;
+    }
+
+    /** Maps columns of a given JDBC type code. Replaces mapper registered before. */
+    public TypeRegistry register(int jdbcType, TypeMapper mapper) {
+        byJdbcType.put(jdbcType, mapper);
+        return this;
+    }
+
+    /** Maps a column with mappers of its JDBC type code and of its type name. Null if none of them maps it. */
+    public Type map(DbColumn column, AvroConfig config) {
+        TypeMapper mapper = byJdbcType.get(column.isArray() ? Types.ARRAY : column.getJdbcType());
+        if (mapper != null) {
+            Type type = mapper.map(column, config);
+            if (type != null) {
+                return type;
+            }
+        }
+
+        mapper = find(column.getTypeName());
+        return mapper != null ? mapper.map(column, config) : null;
+    }
+
+    /** Returns a mapper of a type name, null if there is none. */
+    public TypeMapper find(String typeName) {
+        TypeMapper mapper = resolved.get(typeName);
+        if (mapper == null) {
+            mapper = byName.getOrDefault(normalize(typeName), NOT_FOUND);
+            if (resolved.size() < MAX_RESOLVED) {
+                resolved.put(typeName, mapper);
+            }
+        }
+        return mapper != NOT_FOUND ? mapper : null;
+    }
+
+    /** Type name as mappers are registered with: lower case, without surrounding whitespace. */
+    public static String normalize(String typeName) {
+        return typeName.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static void registerPrimitive(String primitiveType, String... typeNames) {
+        TypeMapper mapper = TypeMapper.primitive(primitiveType);
+        for (String typeName : typeNames) {
+            DEFAULTS.put(typeName, mapper);
+        }
+    }
+}
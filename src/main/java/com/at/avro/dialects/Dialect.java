@@ -0,0 +1,32 @@
+package com.at.avro.dialects;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.at.avro.config.TypeRegistry;
+
+/**
+ * Type mappings of a DB. Dialects are loaded with ServiceLoader, so more of them can be plugged in by listing
+ * their classes in META-INF/services/com.at.avro.dialects.Dialect.
+ *
+ * @see TypeRegistry#forDatabase(String)
+ */
+public interface Dialect {
+
+    /** Tells whether this dialect is for a DB with a given product name, as returned by DatabaseMetaData. */
+    boolean supports(String databaseProductName);
+
+    /** Registers mappings of this DB, on top of default ones, preferably by JDBC type codes. */
+    void registerTypes(TypeRegistry registry);
+
+    /** Returns dialects supporting a given DB, in the order they are listed in service files. */
+    static List<Dialect> forDatabase(String databaseProductName) {
+        List<Dialect> dialects = new ArrayList<>();
+        for (Dialect dialect : Dialects.ALL) {
+            if (dialect.supports(databaseProductName)) {
+                dialects.add(dialect);
+            }
+        }
+        return dialects;
+    }
+}
@@ -0,0 +1,23 @@
+package com.at.avro.dialects;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Dialects found on the classpath, loaded once.
+ */
+final class Dialects {
+
+    static final List<Dialect> ALL;
+
+    static {
+        List<Dialect> dialects = new ArrayList<>();
+        ServiceLoader.load(Dialect.class, Dialect.class.getClassLoader()).forEach(dialects::add);
+        ALL = Collections.unmodifiableList(dialects);
+    }
+
+    private Dialects() {
+    }
+}
@@ -0,0 +1,30 @@
+package com.at.avro.dialects;
+
+import java.sql.Types;
+
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
+
+/**
+ * HSQLDB. Array type names are item type names followed by ARRAY (ie INTEGER ARRAY).
+ */
+public class HsqlDbDialect extends StandardDialect {
+
+    private static final String ARRAY_SUFFIX = " ARRAY";
+
+    public HsqlDbDialect() {
+        super("HSQL Database Engine");
+    }
+
+    @Override
+    public void registerTypes(TypeRegistry registry) {
+        super.registerTypes(registry);
+        registry.register(Types.ARRAY, TypeMapper.array(HsqlDbDialect::itemsTypeName));
+    }
+
+    private static String itemsTypeName(String typeName) {
+        return typeName.regionMatches(true, typeName.length() - ARRAY_SUFFIX.length(), ARRAY_SUFFIX, 0, ARRAY_SUFFIX.length())
+            ? typeName.substring(0, typeName.length() - ARRAY_SUFFIX.length())
+            : typeName;
+    }
+}
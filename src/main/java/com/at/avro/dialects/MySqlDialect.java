@@ -0,0 +1,46 @@
+package com.at.avro.dialects;
+
+import java.sql.Types;
+
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
+import com.at.avro.types.Enum;
+import com.at.avro.types.TypeFactory;
+
+/**
+ * MySQL and MariaDB. Enums are reported as CHAR, they are mapped by symbols of their column type, ie enum('a','b').
+ * YEAR is reported as DATE and mapped to int.
+ */
+public class MySqlDialect extends StandardDialect {
+
+    /** Maps enums to avro enums, or to strings if AvroConfig says so or if column type is unknown. */
+    public static final TypeMapper ENUM = (column, config) -> {
+        if (config.representEnumsAsStrings() || column.getColumnType() == null) {
+            return TypeFactory.primitive("string");
+        }
+        return TypeFactory.intern(new Enum(column.getName(), column.getColumnType()));
+    };
+
+    private static final TypeMapper STRING = TypeMapper.primitive("string");
+    private static final TypeMapper DATE = TypeMapper.date();
+
+    public MySqlDialect() {
+        super("MySQL");
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return super.supports(databaseProductName) || "MariaDB".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public void registerTypes(TypeRegistry registry) {
+        super.registerTypes(registry);
+        // null leaves enums to the enum mapper
+        register(registry, (column, config) -> "enum".equalsIgnoreCase(column.getTypeName()) ? null : STRING.map(column, config), Types.CHAR);
+        register(registry, (column, config) -> "year".equalsIgnoreCase(column.getTypeName())
+            ? TypeFactory.primitive("int")
+            : DATE.map(column, config), Types.DATE);
+        registry.register("enum", ENUM);
+    }
+}
@@ -0,0 +1,56 @@
+package com.at.avro.dialects;
+
+import java.sql.Types;
+
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
+import com.at.avro.types.TypeFactory;
+
+/**
+ * Oracle. NUMBER is reported as NUMERIC or DECIMAL and is mapped by its size: to int or long without decimal digits,
+ * to float or double with them, to bytes if it's too big for both. DATE has time part and is reported as TIMESTAMP.
+ */
+public class OracleDialect extends StandardDialect {
+
+    /** Maps Oracle NUMBER by its size and decimal digits. */
+    public static final TypeMapper NUMBER = (column, config) -> {
+        int size = column.getSize();
+        if (column.getDecimalDigits() > 0) {
+            if (size <= 9) {
+                return TypeFactory.primitive("float");
+            }
+            else if (size <= 18) {
+                return TypeFactory.primitive("double");
+            }
+            return TypeFactory.primitive("bytes");
+        }
+        else {
+            if (size <= 9) {
+                return TypeFactory.primitive("int");
+            }
+            else if (size <= 18) {
+                return TypeFactory.primitive("long");
+            }
+            return TypeFactory.primitive("bytes");
+        }
+    };
+
+    // oracle.jdbc.OracleTypes
+    private static final int BINARY_FLOAT = 100;
+    private static final int BINARY_DOUBLE = 101;
+    private static final int TIMESTAMP_WITH_TIME_ZONE = -101;
+    private static final int TIMESTAMP_WITH_LOCAL_TIME_ZONE = -102;
+
+    public OracleDialect() {
+        super("Oracle");
+    }
+
+    @Override
+    public void registerTypes(TypeRegistry registry) {
+        super.registerTypes(registry);
+        register(registry, NUMBER, Types.NUMERIC, Types.DECIMAL);
+        register(registry, TypeMapper.primitive("float"), BINARY_FLOAT);
+        register(registry, TypeMapper.primitive("double"), BINARY_DOUBLE);
+        register(registry, TypeMapper.timestamp(), TIMESTAMP_WITH_TIME_ZONE, TIMESTAMP_WITH_LOCAL_TIME_ZONE);
+    }
+}
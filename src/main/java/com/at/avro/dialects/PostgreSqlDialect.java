@@ -0,0 +1,29 @@
+package com.at.avro.dialects;
+
+import java.sql.Types;
+
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
+
+/**
+ * PostgreSQL. Array type names are item type names with underscore in front (ie _int4).
+ * uuid, json, inet and alike are reported as OTHER and mapped by their names.
+ */
+public class PostgreSqlDialect extends StandardDialect {
+
+    /** Maps arrays named PostgreSQL way. */
+    public static final TypeMapper ARRAY = TypeMapper.array(typeName -> typeName.substring(1));
+
+    public PostgreSqlDialect() {
+        super("PostgreSQL");
+    }
+
+    @Override
+    public void registerTypes(TypeRegistry registry) {
+        super.registerTypes(registry);
+        registry.register(Types.ARRAY, ARRAY);
+        registry.register("bytea", TypeMapper.primitive("bytes"));
+        registry.register("timestamptz", TypeMapper.timestamp());
+        registry.register("timetz", TypeMapper.time());
+    }
+}
@@ -0,0 +1,29 @@
+package com.at.avro.dialects;
+
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
+
+/**
+ * Microsoft SQL Server. datetimeoffset and sql_variant have driver specific codes,
+ * money and smallmoney are DECIMAL and uniqueidentifier is CHAR.
+ */
+public class SqlServerDialect extends StandardDialect {
+
+    // microsoft.sql.Types
+    private static final int DATETIMEOFFSET = -155;
+    private static final int SQL_VARIANT = -156;
+    private static final int GEOMETRY = -157;
+    private static final int GEOGRAPHY = -158;
+
+    public SqlServerDialect() {
+        super("Microsoft SQL Server");
+    }
+
+    @Override
+    public void registerTypes(TypeRegistry registry) {
+        super.registerTypes(registry);
+        register(registry, TypeMapper.timestamp(), DATETIMEOFFSET);
+        register(registry, TypeMapper.primitive("string"), SQL_VARIANT);
+        register(registry, TypeMapper.primitive("bytes"), GEOMETRY, GEOGRAPHY);
+    }
+}
@@ -0,0 +1,46 @@
+package com.at.avro.dialects;
+
+import java.sql.Types;
+
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
+
+/**
+ * Maps standard JDBC type codes, dialects add codes and names specific to their DBs.
+ */
+public abstract class StandardDialect implements Dialect {
+
+    private final String productName;
+
+    /** @param productName dialect supports DBs whose product names start with it, ignoring case */
+    protected StandardDialect(String productName) {
+        this.productName = productName;
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return databaseProductName != null && databaseProductName.regionMatches(true, 0, productName, 0, productName.length());
+    }
+
+    @Override
+    public void registerTypes(TypeRegistry registry) {
+        register(registry, TypeMapper.primitive("int"), Types.INTEGER, Types.SMALLINT, Types.TINYINT);
+        register(registry, TypeMapper.primitive("long"), Types.BIGINT);
+        register(registry, TypeMapper.primitive("boolean"), Types.BIT, Types.BOOLEAN);
+        register(registry, TypeMapper.primitive("float"), Types.REAL);
+        register(registry, TypeMapper.primitive("double"), Types.FLOAT, Types.DOUBLE);
+        register(registry, TypeMapper.primitive("string"), Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR,
+            Types.NVARCHAR, Types.LONGNVARCHAR, Types.CLOB, Types.NCLOB, Types.SQLXML);
+        register(registry, TypeMapper.primitive("bytes"), Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB);
+        register(registry, TypeMapper.decimal(), Types.DECIMAL, Types.NUMERIC);
+        register(registry, TypeMapper.date(), Types.DATE);
+        register(registry, TypeMapper.time(), Types.TIME, Types.TIME_WITH_TIMEZONE);
+        register(registry, TypeMapper.timestamp(), Types.TIMESTAMP, Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+
+    protected static void register(TypeRegistry registry, TypeMapper mapper, int... jdbcTypes) {
+        for (int jdbcType : jdbcTypes) {
+            registry.register(jdbcType, mapper);
+        }
+    }
+}
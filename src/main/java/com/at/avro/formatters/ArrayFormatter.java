@@ -1,13 +1,27 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Array;
-
-import static java.lang.String.format;
+import com.at.avro.types.Type;
 
 public class ArrayFormatter implements com.at.avro.formatters.Formatter<Array> {
+
+    public static final String TEMPLATE = "{ \"type\":\"array\", \"items\":%s }";
+
     @Override
     public String toJson(Array array, FormatterConfig formatterConfig) {
-        return format("{ \"type\": \"array\", \"items\": \"%s\" }", array.getPrimitiveType());
+        return Json.toJson(this, array, formatterConfig);
+    }
+
+    @Override
+    public void writeJson(Array array, FormatterConfig formatterConfig, Appendable out) throws IOException {
+        // items are written by their own formatter, so logical types of dates and decimals are kept
+        Type itemsType = array.getItemsType();
+        JsonTemplate template = formatterConfig.template(TEMPLATE);
+        out.append(template.part(0));
+        Formatter.write(formatterConfig.getFormatter(itemsType), itemsType, formatterConfig, out);
+        out.append(template.part(1));
     }
 }
@@ -1,5 +1,7 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Date;
 
@@ -8,13 +10,21 @@ import com.at.avro.types.Date;
  */
 public class DateFormatter implements Formatter<Date> {
 
+    // remove java-class field because its not part of Avro spec
+    //String template = "{ \"type\":\"%s\", \"logicalType\":\"%s\", \"java-class\":\"%s\" }";
+
+    public static final String TEMPLATE = "{ \"type\":\"%s\", \"logicalType\":\"%s\"}";
+
     @Override
     public String toJson(Date date, FormatterConfig config) {
+        return Json.toJson(this, date, config);
+    }
 
-        // remove java-class field because its not part of Avro spec
-        //String template = "{ \"type\":\"%s\", \"logicalType\":\"%s\", \"java-class\":\"%s\" }".replaceAll(":", config.colon());
-
-        String template = "{ \"type\":\"%s\", \"logicalType\":\"%s\"}".replaceAll(":", config.colon());
-        return String.format(template, date.getPrimitiveType(), date.getLogicalType());
+    @Override
+    public void writeJson(Date date, FormatterConfig config, Appendable out) throws IOException {
+        JsonTemplate template = config.template(TEMPLATE);
+        out.append(template.part(0)).append(date.getPrimitiveType())
+           .append(template.part(1)).append(date.getLogicalType())
+           .append(template.part(2));
     }
 }
@@ -1,29 +1,32 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Decimal;
 
-import static java.lang.String.format;
-
 /**
  * @author artur@callfire.com
  */
 public class DecimalFormatter implements Formatter<Decimal> {
 
-    @Override
-    public String toJson(Decimal decimal, FormatterConfig config) {
+    // remove java-class field because its not part of Avro spec
+    //String template = "{ \"type\":\"%s\", \"java-class\":\"%s\", \"logicalType\":\"%s\", \"precision\":%s, \"scale\":%s }";
 
-        // remove java-class field because its not part of Avro spec
-        //String template = "{ \"type\":\"%s\", \"java-class\":\"%s\", \"logicalType\":\"%s\", \"precision\":%s, \"scale\":%s }"
-        //    .replaceAll(":", config.colon());
+    public static final String TEMPLATE = "{ \"type\":\"%s\", \"logicalType\":\"%s\", \"precision\":%s, \"scale\":%s }";
 
-        String template = "{ \"type\":\"%s\", \"logicalType\":\"%s\", \"precision\":%s, \"scale\":%s }"
-            .replaceAll(":", config.colon());
+    @Override
+    public String toJson(Decimal decimal, FormatterConfig config) {
+        return Json.toJson(this, decimal, config);
+    }
 
-        return format(template,
-                decimal.getPrimitiveType(),
-                decimal.getLogicalType(),
-                decimal.getPrecision(),
-                decimal.getScale());
+    @Override
+    public void writeJson(Decimal decimal, FormatterConfig config, Appendable out) throws IOException {
+        JsonTemplate template = config.template(TEMPLATE);
+        out.append(template.part(0)).append(decimal.getPrimitiveType())
+           .append(template.part(1)).append(decimal.getLogicalType())
+           .append(template.part(2)).append(Integer.toString(decimal.getPrecision()))
+           .append(template.part(3)).append(Integer.toString(decimal.getScale()))
+           .append(template.part(4));
     }
 }
@@ -1,5 +1,7 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Enum;
 
@@ -8,20 +10,28 @@ import com.at.avro.types.Enum;
  */
 public class EnumFormatter implements Formatter<Enum> {
 
+    public static final String TEMPLATE = "{ \"type\":\"enum\", \"name\":\"%s\", \"symbols\":[%s] }";
+
     @Override
     public String toJson(Enum anEnum, FormatterConfig config) {
-        String template = "{ \"type\":\"enum\", \"name\":\"%s\", \"symbols\":[%s] }".replaceAll(":", config.colon());
-        return String.format(template, anEnum.getName(), formatSymbols(anEnum.getSymbols(), config));
+        return Json.toJson(this, anEnum, config);
+    }
+
+    @Override
+    public void writeJson(Enum anEnum, FormatterConfig config, Appendable out) throws IOException {
+        JsonTemplate template = config.template(TEMPLATE);
+        out.append(template.part(0)).append(anEnum.getName())
+           .append(template.part(1));
+        writeSymbols(anEnum.getSymbols(), config, out);
+        out.append(template.part(2));
     }
 
-    private String formatSymbols(String[] symbols, FormatterConfig config) {
-        StringBuilder symbolsJson = new StringBuilder();
-        if (symbols.length > 0) {
-            for (String symbol : symbols) {
-                symbolsJson.append("\"").append(symbol.trim()).append("\", ");
+    private void writeSymbols(String[] symbols, FormatterConfig config, Appendable out) throws IOException {
+        for (int i = 0; i < symbols.length; i++) {
+            if (i > 0) {
+                out.append(",").append(config.space());
             }
-            symbolsJson.setLength(symbolsJson.length() - 2);
+            out.append("\"").append(symbols[i].trim()).append("\"");
         }
-        return symbolsJson.toString();
     }
 }
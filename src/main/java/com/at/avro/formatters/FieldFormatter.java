@@ -1,5 +1,7 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.AvroField;
 import com.at.avro.AvroType;
@@ -11,39 +13,45 @@ public class FieldFormatter implements Formatter<AvroField> {
 
     @Override
     public String toJson(AvroField field, FormatterConfig config) {
-        StringBuilder builder = new StringBuilder();
+        return Json.toJson(this, field, config);
+    }
 
-        String fieldLineSeparator = config.prettyPrintFields() ? "\n" : " ";
+    @Override
+    public void writeJson(AvroField field, FormatterConfig config, Appendable out) throws IOException {
+        String fieldLineSeparator = config.fieldLineSeparator();
         Formatter<AvroType> formatter = config.getFormatter(field.getType());
-        String typeJson = formatter.toJson(field.getType(), config);
-        String valueIndent = config.prettyPrintFields() ? config.indent(3) : "";
+        String valueIndent = config.fieldValueIndent();
 
         String fieldName = config.lowerCaseNames() ? field.getName().toLowerCase() : field.getName();
-        builder = builder
-                .append("{")
-                .append(fieldLineSeparator).append(valueIndent)
-                .append("\"name\"").append(config.colon()).append("\"").append(fieldName).append("\",")
-                .append(fieldLineSeparator).append(valueIndent)
-                .append("\"type\"").append(config.colon()).append(typeJson).append(",");
-
+        out.append("{")
+            .append(fieldLineSeparator).append(valueIndent)
+            .append("\"name\"").append(config.colon()).append("\"").append(fieldName).append("\",")
+            .append(fieldLineSeparator).append(valueIndent)
+            .append("\"type\"").append(config.colon());
+        Formatter.write(formatter, field.getType(), config, out);
+
+        // separators go before each optional attribute, so there is no trailing comma to take back
         if (field.isDefaultValueSet()) {
-            String defaultValue = shouldDefaultBeQuoted(field) ? "\"" + field.getDefaultValue() + "\"" : field.getDefaultValue() + "";
-            builder = builder.append(fieldLineSeparator).append(valueIndent)
-                    .append("\"default\"").append(config.colon()).append(defaultValue).append(",");
+            out.append(",").append(fieldLineSeparator).append(valueIndent)
+                .append("\"default\"").append(config.colon());
+            if (shouldDefaultBeQuoted(field)) {
+                out.append("\"");
+                Json.writeEscaped(out, String.valueOf(field.getDefaultValue()));
+                out.append("\"");
+            }
+            else {
+                out.append(String.valueOf(field.getDefaultValue()));
+            }
         }
 
         if (field.isDocSet()) {
-            builder = builder
-                .append(fieldLineSeparator).append(valueIndent)
-                .append("\"doc\"").append(config.colon()).append("\"").append(field.getDoc()).append("\"");
-        }
-        else {
-            builder.setLength(builder.length() - 1);
+            out.append(",").append(fieldLineSeparator).append(valueIndent)
+                .append("\"doc\"").append(config.colon()).append("\"");
+            Json.writeEscaped(out, field.getDoc());
+            out.append("\"");
         }
 
-        builder.append(fieldLineSeparator).append(config.prettyPrintFields() ? config.indent(2) : "").append("}");
-
-        return builder.toString();
+        out.append(fieldLineSeparator).append(config.fieldClosingIndent()).append("}");
     }
 
     private boolean shouldDefaultBeQuoted(AvroField avroField) {
@@ -1,5 +1,7 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 
 /**
@@ -8,4 +10,25 @@ import com.at.avro.config.FormatterConfig;
 public interface Formatter<T> {
 
     String toJson(T t, FormatterConfig formatterConfig);
+
+    /**
+     * Writes json straight into a sink shared by all formatters of a schema, so no intermediate strings are built.
+     * Built-in formatters implement it, custom formatters get it for free on top of toJson.
+     */
+    default void writeJson(T t, FormatterConfig formatterConfig, Appendable out) throws IOException {
+        out.append(toJson(t, formatterConfig));
+    }
+
+    /**
+     * Writes json of a value with a given formatter. Only built-in formatters stream it into the sink,
+     * any other one, subclasses of built-in formatters included, is asked for toJson as it may override only that.
+     */
+    static <T> void write(Formatter<T> formatter, T t, FormatterConfig formatterConfig, Appendable out) throws IOException {
+        if (Json.isBuiltIn(formatter)) {
+            formatter.writeJson(t, formatterConfig, out);
+        }
+        else {
+            out.append(formatter.toJson(t, formatterConfig));
+        }
+    }
 }
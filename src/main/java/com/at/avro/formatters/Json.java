@@ -0,0 +1,81 @@
+package com.at.avro.formatters;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.at.avro.config.FormatterConfig;
+
+/**
+ * Helpers shared by built-in formatters.
+ */
+final class Json {
+
+    // exact classes, a subclass may override toJson only and then its writeJson doesn't match it
+    private static final Set<Class<?>> BUILT_IN_FORMATTERS = new HashSet<>(Arrays.asList(
+        SchemaFormatter.class, SchemaKeyFormatter.class, FieldFormatter.class, TypeFormatter.class,
+        PrimitiveFormatter.class, ArrayFormatter.class, EnumFormatter.class, DateFormatter.class,
+        TimeFormatter.class, TimestampFormatter.class, DecimalFormatter.class));
+
+    private Json() {
+    }
+
+    static boolean isBuiltIn(Formatter<?> formatter) {
+        return BUILT_IN_FORMATTERS.contains(formatter.getClass());
+    }
+
+    /** Runs a streaming formatter into a string, for toJson implementations. */
+    static <T> String toJson(Formatter<T> formatter, T t, FormatterConfig config) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            formatter.writeJson(t, config, builder);
+        }
+        catch (IOException e) {
+            // StringBuilder doesn't throw it
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /** Appends contents of a json string, escaping quotes, backslashes and control characters. */
+    static void writeEscaped(Appendable out, String value) throws IOException {
+        int from = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '"' && c != '\\' && c >= 0x20) {
+                continue;
+            }
+            out.append(value, from, i);
+            from = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    out.append(String.format("\\u%04x", (int) c));
+            }
+        }
+        // most values have nothing to escape and are appended at once
+        out.append(value, from, value.length());
+    }
+}
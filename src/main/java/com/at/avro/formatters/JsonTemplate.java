@@ -0,0 +1,58 @@
+package com.at.avro.formatters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Json template compiled for a FormatterConfig: colons are replaced with the configured ones
+ * and the template is split by %s placeholders, so formatting only appends parts and values.
+ *
+ * @see com.at.avro.config.FormatterConfig#template(String)
+ */
+public final class JsonTemplate {
+
+    private static final String PLACEHOLDER = "%s";
+
+    private final String[] parts;
+
+    private JsonTemplate(String[] parts) {
+        this.parts = parts;
+    }
+
+    public static JsonTemplate compile(String template, String colon) {
+        return compile(template, colon, false);
+    }
+
+    /** Compiles a template, dropping whitespace outside of quoted strings if minified. */
+    public static JsonTemplate compile(String template, String colon, boolean minified) {
+        StringBuilder resolved = new StringBuilder(template.length() + 8);
+        boolean quoted = false;
+        for (int i = 0; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            }
+            if (c == ':') {
+                resolved.append(colon);
+            }
+            else if (!minified || quoted || !Character.isWhitespace(c)) {
+                resolved.append(c);
+            }
+        }
+
+        List<String> parts = new ArrayList<>();
+        int from = 0;
+        int placeholder;
+        while ((placeholder = resolved.indexOf(PLACEHOLDER, from)) >= 0) {
+            parts.add(resolved.substring(from, placeholder));
+            from = placeholder + PLACEHOLDER.length();
+        }
+        parts.add(resolved.substring(from));
+        return new JsonTemplate(parts.toArray(new String[0]));
+    }
+
+    /** Returns the text before placeholder number index, or after the last placeholder. */
+    public String part(int index) {
+        return parts[index];
+    }
+}
@@ -1,5 +1,7 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Primitive;
 
@@ -9,6 +11,11 @@ import com.at.avro.types.Primitive;
 public class PrimitiveFormatter implements Formatter<Primitive> {
     @Override
     public String toJson(Primitive primitive, FormatterConfig config) {
-        return "\"" + primitive.getPrimitiveType() + "\"";
+        return Json.toJson(this, primitive, config);
+    }
+
+    @Override
+    public void writeJson(Primitive primitive, FormatterConfig config, Appendable out) throws IOException {
+        out.append('"').append(primitive.getPrimitiveType()).append('"');
     }
 }
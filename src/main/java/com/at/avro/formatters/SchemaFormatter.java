@@ -4,7 +4,10 @@ import com.at.avro.config.FormatterConfig;
 import com.at.avro.AvroField;
 import com.at.avro.AvroSchema;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Writes avro schema json based on AvroSchema bean.
@@ -13,48 +16,167 @@ import java.util.List;
  */
 public class SchemaFormatter implements Formatter<AvroSchema> {
 
+    // subclasses overriding formatLine or formatFields keep having them called instead of writeLine and writeFields
+    private static final ClassValue<Boolean> FORMAT_LINE_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "formatLine", FormatterConfig.class, String.class, String.class);
+        }
+    };
+    private static final ClassValue<Boolean> FORMAT_FIELDS_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "formatFields", FormatterConfig.class, List.class);
+        }
+    };
+
     @Override
     public String toJson(AvroSchema avroSchema, FormatterConfig config) {
+        return Json.toJson(this, avroSchema, config);
+    }
+
+    @Override
+    public void writeJson(AvroSchema avroSchema, FormatterConfig config, Appendable out) throws IOException {
+        writeJson(avroSchema, config, out, null);
+    }
 
-        StringBuilder builder = new StringBuilder();
-        builder.append("{").append(config.prettyPrintSchema()? "" : " ").append(config.lineSeparator())
-                .append(formatLine(config, "type", "record"))
-                .append(formatLine(config, "name",  getRecordName(avroSchema, config)))
-                .append(formatLine(config, "namespace", avroSchema.getNamespace()));
+    /**
+     * Writes schema json sharing json of fields present in a given map as keys: it is taken from the map,
+     * or formatted and put into it when the map holds null for a field. Other fields are written straight to out.
+     * Lets schemas sharing fields (ie value and key schemas of a table) format them once.
+     */
+    public void writeJson(AvroSchema avroSchema, FormatterConfig config, Appendable out,
+                          Map<AvroField, String> renderedFields) throws IOException {
+        out.append("{").append(config.lineEnd());
+        line(out, config, "type", "record");
+        line(out, config, "name", getRecordName(avroSchema, config));
+        line(out, config, "namespace", avroSchema.getNamespace());
 
         if (avroSchema.isDocSet()) {
-            builder.append(formatLine(config, "doc", avroSchema.getDoc()));
+            line(out, config, "doc", avroSchema.getDoc());
         }
 
-        avroSchema.getCustomProperties().forEach((key, value) -> {
-            builder.append(formatLine(config, key, value));
-        });
-
-        builder.append(config.lineSeparator())
-               .append(config.indent()).append("\"fields\"").append(config.colon()).append("[").append(config.lineSeparator())
-               .append(formatFields(config, getFields(avroSchema))).append(config.lineSeparator())
-               .append(config.indent()).append("]").append(config.lineSeparator())
-               .append("}");
+        for (Map.Entry<String, String> property : avroSchema.getCustomProperties().entrySet()) {
+            line(out, config, property.getKey(), property.getValue());
+        }
 
-        return builder.toString();
+        out.append(config.lineSeparator())
+           .append(config.indent()).append("\"fields\"").append(config.colon()).append("[").append(config.lineSeparator());
+        writeFields(out, config, getFields(avroSchema), renderedFields);
+        out.append(config.lineSeparator())
+           .append(config.indent()).append("]").append(config.lineSeparator())
+           .append("}");
     }
 
+    /**
+     * Formats a single "name": "value" line of the schema.
+     *
+     * @deprecated override {@link #writeLine(Appendable, FormatterConfig, String, String)} instead,
+     * an override of this method is still called in its place
+     */
+    @Deprecated
     public String formatLine(FormatterConfig config, String name, String value) {
-        name = config.lowerCaseNames() ? name.toLowerCase() : name;
-        return config.indent() + "\"" + name + "\"" + config.colon() + "\"" + value + "\"," + (config.prettyPrintSchema()? "" : " ") + config.lineSeparator();
+        StringBuilder line = new StringBuilder();
+        try {
+            writeLine(line, config, name, value);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return line.toString();
     }
 
+    /**
+     * Formats fields of the schema, separated but not enclosed in brackets.
+     *
+     * @deprecated override {@link #writeFields(Appendable, FormatterConfig, List)} instead,
+     * an override of this method is still called in its place
+     */
+    @Deprecated
     public String formatFields(FormatterConfig config, List<AvroField> fields) {
         StringBuilder fieldsJson = new StringBuilder();
+        try {
+            writeFields(fieldsJson, config, fields);
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return fieldsJson.toString();
+    }
+
+    /** Writes a single "name": "value" line of the schema. Override to change how schema properties are written. */
+    protected void writeLine(Appendable out, FormatterConfig config, String name, String value) throws IOException {
+        name = config.lowerCaseNames() ? name.toLowerCase() : name;
+        out.append(config.indent()).append("\"").append(name).append("\"").append(config.colon()).append("\"");
+        Json.writeEscaped(out, String.valueOf(value));
+        out.append("\",").append(config.lineEnd());
+    }
+
+    /** Writes fields of the schema, separated but not enclosed in brackets. Override to change how fields are written. */
+    protected void writeFields(Appendable out, FormatterConfig config, List<AvroField> fields) throws IOException {
+        boolean first = true;
         for (AvroField field : fields) {
+            if (!first) {
+                out.append(config.fieldsSeparator());
+            }
+            first = false;
+
             Formatter<AvroField> formatter = config.getFormatter(field);
-            String json = formatter.toJson(field, config);
-            fieldsJson.append(config.indent()).append(config.indent()).append(json).append(",").append(config.lineSeparator());
+            out.append(config.indent(2));
+            Formatter.write(formatter, field, config, out);
         }
-        if (fieldsJson.length() > 1) {
-            fieldsJson.setLength(fieldsJson.length() - 2);
+    }
+
+    private void writeFields(Appendable out, FormatterConfig config, List<AvroField> fields,
+                             Map<AvroField, String> renderedFields) throws IOException {
+        if (FORMAT_FIELDS_OVERRIDDEN.get(getClass())) {
+            out.append(formatFields(config, fields));
+            return;
+        }
+        if (renderedFields == null) {
+            writeFields(out, config, fields);
+            return;
+        }
+
+        boolean first = true;
+        for (AvroField field : fields) {
+            if (!first) {
+                out.append(config.fieldsSeparator());
+            }
+            first = false;
+
+            Formatter<AvroField> formatter = config.getFormatter(field);
+            out.append(config.indent(2));
+            if (!renderedFields.containsKey(field)) {
+                Formatter.write(formatter, field, config, out);
+                continue;
+            }
+
+            String json = renderedFields.get(field);
+            if (json == null) {
+                json = formatter.toJson(field, config);
+                renderedFields.put(field, json);
+            }
+            out.append(json);
+        }
+    }
+
+    private void line(Appendable out, FormatterConfig config, String name, String value) throws IOException {
+        if (FORMAT_LINE_OVERRIDDEN.get(getClass())) {
+            out.append(formatLine(config, name, value));
+        }
+        else {
+            writeLine(out, config, name, value);
+        }
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes).getDeclaringClass() != SchemaFormatter.class;
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
         }
-        return fieldsJson.toString();
     }
 
     protected String getRecordName(AvroSchema avroSchema, FormatterConfig config) {
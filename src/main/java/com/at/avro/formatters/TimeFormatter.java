@@ -1,12 +1,24 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Time;
 
 public class TimeFormatter implements Formatter<Time> {
+
+    public static final String TEMPLATE = "{ \"type\":\"%s\", \"logicalType\":\"%s\"}";
+
     @Override
     public String toJson(Time time, FormatterConfig config) {
-        String template = "{ \"type\":\"%s\", \"logicalType\":\"%s\"}".replaceAll(":", config.colon());
-        return String.format(template, time.getPrimitiveType(), time.getLogicalType());
+        return Json.toJson(this, time, config);
+    }
+
+    @Override
+    public void writeJson(Time time, FormatterConfig config, Appendable out) throws IOException {
+        JsonTemplate template = config.template(TEMPLATE);
+        out.append(template.part(0)).append(time.getPrimitiveType())
+           .append(template.part(1)).append(time.getLogicalType())
+           .append(template.part(2));
     }
 }
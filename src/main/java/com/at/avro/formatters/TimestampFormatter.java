@@ -1,12 +1,24 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+
 import com.at.avro.config.FormatterConfig;
 import com.at.avro.types.Timestamp;
 
 public class TimestampFormatter implements Formatter<Timestamp> {
+
+    public static final String TEMPLATE = "{ \"type\":\"%s\", \"logicalType\":\"%s\"}";
+
     @Override
     public String toJson(Timestamp date, FormatterConfig config) {
-        String template = "{ \"type\":\"%s\", \"logicalType\":\"%s\"}".replaceAll(":", config.colon());
-        return String.format(template, date.getPrimitiveType(), date.getLogicalType());
+        return Json.toJson(this, date, config);
+    }
+
+    @Override
+    public void writeJson(Timestamp date, FormatterConfig config, Appendable out) throws IOException {
+        JsonTemplate template = config.template(TEMPLATE);
+        out.append(template.part(0)).append(date.getPrimitiveType())
+           .append(template.part(1)).append(date.getLogicalType())
+           .append(template.part(2));
     }
 }
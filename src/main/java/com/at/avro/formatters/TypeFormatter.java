@@ -1,6 +1,10 @@
 package com.at.avro.formatters;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import com.at.avro.config.FormatterConfig;
+import com.at.avro.types.Array;
 import com.at.avro.types.Type;
 import com.at.avro.AvroType;
 
@@ -13,13 +17,46 @@ public class TypeFormatter implements Formatter<AvroType> {
 
     @Override
     public String toJson(AvroType avroType, FormatterConfig formatterConfig) {
-        Formatter<Type> formatter = formatterConfig.getFormatter(avroType.getType());
-        String json = formatter.toJson(avroType.getType(), formatterConfig);
+        return Json.toJson(this, avroType, formatterConfig);
+    }
+
+    @Override
+    public void writeJson(AvroType avroType, FormatterConfig formatterConfig, Appendable out) throws IOException {
+        // same types repeat across fields of a catalog, so each of them is rendered once per config.
+        // Only built-in types formatted by built-in formatters are known to have json depending on the value alone
+        if (isCacheable(avroType.getType(), formatterConfig)) {
+            out.append(formatterConfig.cachedJson(avroType, type -> render(type, formatterConfig)));
+        }
+        else {
+            out.append(render(avroType, formatterConfig));
+        }
+    }
 
-        if (avroType.isNullable()) {
-            return "[ \"null\", " + json + " ]";
+    /** Tells whether json of a type, and of array items if it's an array, is written by built-in code only. */
+    private static boolean isCacheable(Type type, FormatterConfig formatterConfig) {
+        if (!type.isBuiltIn() || !Json.isBuiltIn(formatterConfig.getFormatter(type))) {
+            return false;
         }
+        return !(type instanceof Array) || isCacheable(((Array) type).getItemsType(), formatterConfig);
+    }
 
-        return json;
+    private String render(AvroType avroType, FormatterConfig formatterConfig) {
+        Formatter<Type> formatter = formatterConfig.getFormatter(avroType.getType());
+        StringBuilder json = new StringBuilder();
+        try {
+            if (avroType.isNullable()) {
+                String space = formatterConfig.space();
+                json.append("[").append(space).append("\"null\",").append(space);
+                Formatter.write(formatter, avroType.getType(), formatterConfig, json);
+                json.append(space).append("]");
+            }
+            else {
+                Formatter.write(formatter, avroType.getType(), formatterConfig, json);
+            }
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return json.toString();
     }
 }
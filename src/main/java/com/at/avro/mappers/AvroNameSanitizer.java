@@ -0,0 +1,152 @@
+package com.at.avro.mappers;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Turns DB identifiers into avro names in a single pass. Names that need no change are returned as they are.
+ *
+ * stripQuotes() only removes quotes and backticks. avroNames() also makes names valid for avro:
+ * a letter or underscore first, then only letters, digits and underscores. Other characters are replaced
+ * (with underscore by default) and a leading digit is prefixed with the replacement.
+ * Names colliding within a schema after sanitizing get a numeric suffix, ie a_b, a_b_2.
+ * Names that needed no change keep it, only rewritten ones get suffixes.
+ */
+public class AvroNameSanitizer implements Function<String, String> {
+
+    private final boolean avroNames;
+    private char replacement = '_';
+    private boolean uniqueNames;
+
+    private AvroNameSanitizer(boolean avroNames, boolean uniqueNames) {
+        this.avroNames = avroNames;
+        this.uniqueNames = uniqueNames;
+    }
+
+    /** Removes quotes and backticks from names. Default one. */
+    public static AvroNameSanitizer stripQuotes() {
+        return new AvroNameSanitizer(false, false);
+    }
+
+    /** Removes quotes and backticks, replaces characters avro doesn't allow in names and makes names unique. */
+    public static AvroNameSanitizer avroNames() {
+        return new AvroNameSanitizer(true, true);
+    }
+
+    /** Character replacing ones not allowed in avro names, a letter or underscore. */
+    public AvroNameSanitizer setReplacement(char replacement) {
+        if (!isLeadingChar(replacement)) {
+            throw new IllegalArgumentException("replacement should be a letter or underscore: " + replacement);
+        }
+        this.replacement = replacement;
+        return this;
+    }
+
+    /** Whether names colliding within a schema get a numeric suffix. */
+    public AvroNameSanitizer setUniqueNames(boolean uniqueNames) {
+        this.uniqueNames = uniqueNames;
+        return this;
+    }
+
+    @Override
+    public String apply(String name) {
+        return sanitize(name);
+    }
+
+    public String sanitize(String name) {
+        int length = name.length();
+        int valid = 0;
+        while (valid < length && isKept(name.charAt(valid), valid == 0)) {
+            valid++;
+        }
+        if (valid == length && (length > 0 || !avroNames)) {
+            return name;
+        }
+
+        StringBuilder sanitized = new StringBuilder(length + 1).append(name, 0, valid);
+        for (int i = valid; i < length; i++) {
+            char c = name.charAt(i);
+            if (isQuote(c)) {
+                continue;
+            }
+            boolean leading = sanitized.length() == 0;
+            if (!avroNames || (leading ? isLeadingChar(c) : isNameChar(c))) {
+                sanitized.append(c);
+            }
+            else if (leading && isDigit(c)) {
+                sanitized.append(replacement).append(c);
+            }
+            else {
+                sanitized.append(replacement);
+            }
+        }
+        if (avroNames && sanitized.length() == 0) {
+            sanitized.append(replacement);
+        }
+        return sanitized.toString();
+    }
+
+    /**
+     * Sanitizes names of one schema, making them unique if unique names are on.
+     * Names which needed no change are reserved first, so a column keeps its name regardless of column order.
+     */
+    public List<String> sanitizeAll(List<String> names) {
+        List<String> sanitized = new ArrayList<>(names.size());
+        for (String name : names) {
+            sanitized.add(sanitize(name));
+        }
+        if (!uniqueNames) {
+            return sanitized;
+        }
+
+        Set<String> taken = new HashSet<>();
+        boolean[] rewritten = new boolean[names.size()];
+        for (int i = 0; i < names.size(); i++) {
+            rewritten[i] = !sanitized.get(i).equals(names.get(i)) || !taken.add(sanitized.get(i));
+        }
+        for (int i = 0; i < names.size(); i++) {
+            if (rewritten[i]) {
+                sanitized.set(i, unique(sanitized.get(i), taken));
+            }
+        }
+        return sanitized;
+    }
+
+    private static String unique(String name, Set<String> taken) {
+        if (taken.add(name)) {
+            return name;
+        }
+        for (int suffix = 2; ; suffix++) {
+            String candidate = name + "_" + suffix;
+            if (taken.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    private boolean isKept(char c, boolean leading) {
+        if (!avroNames) {
+            return !isQuote(c);
+        }
+        return leading ? isLeadingChar(c) : isNameChar(c);
+    }
+
+    private static boolean isQuote(char c) {
+        return c == '`' || c == '"' || c == '\'';
+    }
+
+    private static boolean isLeadingChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isNameChar(char c) {
+        return isLeadingChar(c) || isDigit(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,7 +1,36 @@
 package com.at.avro.types;
 
+import java.util.Objects;
+
 public class Array extends Type {
+
+    private final Type itemsType;
+
     public Array(Type itemsType) {
         super(itemsType.getPrimitiveType());
+        this.itemsType = itemsType;
+    }
+
+    /** Type of items, with its logical type if any. */
+    public Type getItemsType() {
+        return itemsType;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        return itemsType.equals(((Array) o).itemsType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), itemsType);
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + ": " + itemsType;
     }
 }
@@ -1,5 +1,7 @@
 package com.at.avro.types;
 
+import java.util.Objects;
+
 import com.at.avro.config.AvroConfig;
 
 import schemacrawler.schema.Column;
@@ -13,8 +15,12 @@ public class Date extends Type {
     private final String javaClass;
 
     public Date(Column column, AvroConfig config) {
+        this(config);
+    }
+
+    public Date(AvroConfig config) {
         super("int");
-        this.javaClass = config.getDateTypeClass().getCanonicalName();
+        this.javaClass = TypeFactory.className(config.getDateTypeClass());
     }
 
     public String getLogicalType() {
@@ -25,6 +31,20 @@ public class Date extends Type {
         return javaClass;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        Date that = (Date) o;
+        return Objects.equals(javaClass, that.javaClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), javaClass);
+    }
+
     @Override
     public String toString() {
         return super.toString() + ": " + getLogicalType();
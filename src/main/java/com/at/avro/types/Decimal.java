@@ -1,5 +1,7 @@
 package com.at.avro.types;
 
+import java.util.Objects;
+
 import com.at.avro.config.AvroConfig;
 
 import schemacrawler.schema.Column;
@@ -15,10 +17,14 @@ public class Decimal extends Type {
     private final String logicalType = "decimal";
 
     public Decimal(Column column, AvroConfig config) {
+        this(column.getSize(), column.getDecimalDigits(), config);
+    }
+
+    public Decimal(int precision, int scale, AvroConfig config) {
         super("bytes");
-        this.precision = column.getSize();
-        this.scale = column.getDecimalDigits();
-        this.javaClass = config.getDecimalTypeClass().getCanonicalName();
+        this.precision = precision;
+        this.scale = scale;
+        this.javaClass = TypeFactory.className(config.getDecimalTypeClass());
     }
 
     public String getJavaClass() {
@@ -37,6 +43,20 @@ public class Decimal extends Type {
         return scale;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        Decimal that = (Decimal) o;
+        return precision == that.precision && scale == that.scale && Objects.equals(javaClass, that.javaClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), precision, scale, javaClass);
+    }
+
     @Override
     public String toString() {
         return super.toString() + ": " + logicalType + "[" + getPrecision() + ":" + getScale() + "]";
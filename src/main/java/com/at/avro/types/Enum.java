@@ -1,6 +1,7 @@
 package com.at.avro.types;
 
 import java.util.Arrays;
+import java.util.Objects;
 
 import schemacrawler.schema.Column;
 
@@ -13,10 +14,15 @@ public class Enum extends Type {
     private final String[] symbols;
 
     public Enum(Column column) {
+        this(column.getName(), column.getAttribute("COLUMN_TYPE").toString());
+    }
+
+    /** Takes symbols from a column type declaration, ie enum('a','b'). */
+    public Enum(String name, String columnType) {
         super("enum");
-        this.name = column.getName();
+        this.name = name;
 
-        String allowedValues = column.getAttribute("COLUMN_TYPE").toString();
+        String allowedValues = columnType;
         this.symbols = allowedValues
                 .replaceFirst("enum", "")
                 .replaceFirst("ENUM", "")
@@ -33,8 +39,23 @@ public class Enum extends Type {
         return name;
     }
 
+    /** Returns a copy, enum itself is immutable. */
     public String[] getSymbols() {
-        return symbols;
+        return symbols.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        Enum that = (Enum) o;
+        return Objects.equals(name, that.name) && Arrays.equals(symbols, that.symbols);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), name, Arrays.hashCode(symbols));
     }
 
     @Override
@@ -1,5 +1,7 @@
 package com.at.avro.types;
 
+import java.util.Objects;
+
 import com.at.avro.config.AvroConfig;
 import schemacrawler.schema.Column;
 
@@ -9,9 +11,13 @@ public class Time extends Type {
     private final String javaClass;
 
     public Time(Column column, AvroConfig config) {
+        this(config);
+    }
+
+    public Time(AvroConfig config) {
         super(config.isTimesInMicroseconds() ? "long" : "int");
         this.logicalType = config.getDefaultTimeLogicalType();
-        this.javaClass = java.sql.Time.class.getCanonicalName();
+        this.javaClass = TypeFactory.className(java.sql.Time.class);
     }
 
     public String getLogicalType() {
@@ -22,6 +28,20 @@ public class Time extends Type {
         return javaClass;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        Time that = (Time) o;
+        return Objects.equals(logicalType, that.logicalType) && Objects.equals(javaClass, that.javaClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), logicalType, javaClass);
+    }
+
     @Override
     public String toString() {
         return super.toString() + ": " + getLogicalType();
@@ -1,5 +1,7 @@
 package com.at.avro.types;
 
+import java.util.Objects;
+
 import com.at.avro.config.AvroConfig;
 import schemacrawler.schema.Column;
 
@@ -9,9 +11,13 @@ public class Timestamp extends Type {
     private final String javaClass;
 
     public Timestamp(Column column, AvroConfig config) {
+        this(config);
+    }
+
+    public Timestamp(AvroConfig config) {
         super("long");
         this.logicalType = config.getDefaultTimestampLogicalType();
-        this.javaClass = config.getDateTypeClass().getCanonicalName();
+        this.javaClass = TypeFactory.className(config.getDateTypeClass());
     }
 
     public Timestamp(String logicalType, String javaClass) {
@@ -28,6 +34,20 @@ public class Timestamp extends Type {
         return javaClass;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) {
+            return false;
+        }
+        Timestamp that = (Timestamp) o;
+        return Objects.equals(logicalType, that.logicalType) && Objects.equals(javaClass, that.javaClass);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), logicalType, javaClass);
+    }
+
     @Override
     public String toString() {
         return super.toString() + ": " + getLogicalType();
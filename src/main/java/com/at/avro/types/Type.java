@@ -1,10 +1,20 @@
 package com.at.avro.types;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
+ * Built-in types are values: equal types produce the same json, which lets them be shared and their json cached.
+ * Any other type, subclasses of built-in ones included, is compared by identity, as its state is unknown here.
+ *
  * @author artur@callfire.com
  */
 public abstract class Type {
 
+    private static final Set<Class<?>> BUILT_IN_TYPES = new HashSet<>(Arrays.asList(
+        Primitive.class, Date.class, Time.class, Timestamp.class, Decimal.class, Enum.class, Array.class));
+
     protected final String primitiveType;
 
     public Type(String primitiveType) {
@@ -15,6 +25,27 @@ public abstract class Type {
         return primitiveType;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass() || !isBuiltIn()) {
+            return false;
+        }
+        return primitiveType.equals(((Type) o).primitiveType);
+    }
+
+    @Override
+    public int hashCode() {
+        return isBuiltIn() ? getClass().hashCode() * 31 + primitiveType.hashCode() : System.identityHashCode(this);
+    }
+
+    /** Whether it's one of built-in types, which are compared by value. */
+    public boolean isBuiltIn() {
+        return BUILT_IN_TYPES.contains(getClass());
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "(" + primitiveType + ")";
@@ -0,0 +1,91 @@
+package com.at.avro.types;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.at.avro.AvroType;
+import com.at.avro.config.AvroConfig;
+
+/**
+ * Returns shared instances of types. Types are immutable values and a catalog has few distinct ones,
+ * so columns of the same type can share one instance instead of holding copies.
+ * This is the only place types and AvroTypes are interned.
+ */
+public final class TypeFactory {
+
+    // types and AvroTypes, bounded in case a catalog has lots of distinct enums or decimals;
+    // beyond that types are returned as created
+    private static final int MAX_INTERNED = 10_000;
+    private static final Map<Object, Object> INTERNED = new ConcurrentHashMap<>();
+
+    private static final Map<String, Primitive> PRIMITIVES = new ConcurrentHashMap<>();
+
+    private static final ClassValue<String> CLASS_NAMES = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return type.getCanonicalName();
+        }
+    };
+
+    private TypeFactory() {
+    }
+
+    public static Primitive primitive(String primitiveType) {
+        Primitive primitive = PRIMITIVES.get(primitiveType);
+        if (primitive == null) {
+            primitive = intern(new Primitive(primitiveType));
+            if (PRIMITIVES.size() < MAX_INTERNED) {
+                PRIMITIVES.putIfAbsent(primitiveType, primitive);
+            }
+        }
+        return primitive;
+    }
+
+    public static Date date(AvroConfig config) {
+        return intern(new Date(config));
+    }
+
+    public static Time time(AvroConfig config) {
+        return intern(new Time(config));
+    }
+
+    public static Timestamp timestamp(AvroConfig config) {
+        return intern(new Timestamp(config));
+    }
+
+    public static Decimal decimal(int precision, int scale, AvroConfig config) {
+        return intern(new Decimal(precision, scale, config));
+    }
+
+    /** Returns a shared instance equal to a given type. Types other than built-in ones are returned as they are. */
+    public static <T extends Type> T intern(T type) {
+        return share(type, type.isBuiltIn());
+    }
+
+    /** Returns a shared instance equal to a given AvroType. AvroTypes of types other than built-in ones are returned as they are. */
+    public static AvroType intern(AvroType avroType) {
+        return share(avroType, avroType.getType().isBuiltIn());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T share(T value, boolean shareable) {
+        if (!shareable) {
+            // compared by identity, sharing is not possible
+            return value;
+        }
+        Object interned = INTERNED.get(value);
+        if (interned != null) {
+            return (T) interned;
+        }
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return value;
+        }
+        interned = INTERNED.putIfAbsent(value, value);
+        return interned != null ? (T) interned : value;
+    }
+
+    /** Canonical name of a class, computed once and shared by all types referring to it. */
+    static String className(Class<?> type) {
+        return CLASS_NAMES.get(type);
+    }
+}
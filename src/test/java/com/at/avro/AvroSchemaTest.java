@@ -0,0 +1,43 @@
+package com.at.avro;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.at.avro.config.AvroConfig;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class AvroSchemaTest {
+
+    @Test
+    public void testLazyFieldsBuiltOnFirstUse() {
+        AtomicInteger mappedFields = new AtomicInteger();
+        AvroConfig lazyConfig = new AvroConfig("test.namespace").setLazyFields(true)
+            .setFieldNameMapper(name -> {
+                mappedFields.incrementAndGet();
+                return name;
+            });
+
+        AvroSchema schema = new AvroSchema(table(), lazyConfig, Collections.emptyList());
+        assertThat(mappedFields.get(), is(0));
+
+        assertThat(schema.getKeys().get(0).getName(), is("id"));
+        assertThat(mappedFields.get(), is(1));
+        assertThat(schema.getFields().get(0), sameInstance(schema.getKeys().get(0)));
+        assertThat(mappedFields.get(), is(2));
+
+        AvroSchema eager = new AvroSchema(table(), new AvroConfig("test.namespace"), Collections.emptyList());
+        assertThat(SchemaGenerator.generate(schema), is(SchemaGenerator.generate(eager)));
+    }
+
+    private DbTable table() {
+        DbColumn id = new DbColumn("id", "INTEGER", Types.INTEGER, "INTEGER", false, false, 32, 0, false, null, null, true);
+        DbColumn name = new DbColumn("name", "VARCHAR", Types.VARCHAR, "VARCHAR(50)", false, false, 50, 0, true, null, null, false);
+        return new DbTable("alpha_0", "PUBLIC.alpha_0", null, Arrays.asList(id, name));
+    }
+}
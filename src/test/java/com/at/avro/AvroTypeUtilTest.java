@@ -1,6 +1,8 @@
 package com.at.avro;
 
 import com.at.avro.config.AvroConfig;
+import com.at.avro.config.TypeMapper;
+import com.at.avro.config.TypeRegistry;
 import com.at.avro.types.Date;
 import com.at.avro.types.Decimal;
 import com.at.avro.types.Primitive;
@@ -8,6 +10,8 @@ import org.junit.Test;
 import schemacrawler.schema.Column;
 import schemacrawler.schema.ColumnDataType;
 
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
@@ -126,7 +130,7 @@ public class AvroTypeUtilTest {
 
     @Test
     public void testEnumsAsStrings() throws Exception {
-        AvroConfig avroConfig = defaultConfig().setRepresentEnumsAsStrings(true);
+        AvroConfig avroConfig = defaultConfig().setRepresentEnumsAsStrings(true).setTypeRegistry(TypeRegistry.forDatabase("MySQL"));
         AvroType avroType = AvroTypeUtil.getAvroType(column("enum"), avroConfig);
 
         assertThat(avroType.getType(), instanceOf(Primitive.class));
@@ -150,6 +154,33 @@ public class AvroTypeUtilTest {
         assertThat(avroType.getType().getPrimitiveType(), is("string"));
     }
 
+    @Test
+    public void testEqualTypesAreShared() throws Exception {
+        AvroType first = AvroTypeUtil.getAvroType(column("decimal"), defaultConfig());
+        AvroType second = AvroTypeUtil.getAvroType(column("decimal"), defaultConfig());
+
+        assertThat(first, is(second));
+        assertThat(first == second, is(true));
+        assertThat(first.equals(AvroTypeUtil.getAvroType(column("int"), defaultConfig())), is(false));
+    }
+
+    @Test
+    public void testTypeRegistryByJdbcTypeThenName() throws Exception {
+        AvroConfig avroConfig = defaultConfig();
+        avroConfig.getTypeRegistry()
+            .register("Money", TypeMapper.primitive("double"))
+            .register(Types.VARCHAR, TypeMapper.primitive("string"))
+            .register(Types.CHAR, (column, config) -> null);
+
+        assertThat(AvroTypeUtil.getAvroType(column("MONEY "), avroConfig).getType().getPrimitiveType(), is("double"));
+        assertThat(AvroTypeUtil.getAvroType(new DbColumn("name", "character varying", Types.VARCHAR, null, false, false,
+            10, 0, false, null, "", false), avroConfig).getType().getPrimitiveType(), is("string"));
+        assertThat(AvroTypeUtil.getAvroType(new DbColumn("name", "int", Types.VARCHAR, null, false, false,
+            10, 0, false, null, "", false), avroConfig).getType().getPrimitiveType(), is("string"));
+        assertThat(AvroTypeUtil.getAvroType(new DbColumn("name", "int", Types.CHAR, null, false, false,
+            10, 0, false, null, "", false), avroConfig).getType().getPrimitiveType(), is("int"));
+    }
+
     private AvroConfig defaultConfig() {
         return new AvroConfig("test");
     }
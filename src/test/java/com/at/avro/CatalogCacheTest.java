@@ -0,0 +1,110 @@
+package com.at.avro;
+
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.zip.GZIPOutputStream;
+
+import com.at.avro.config.AvroConfig;
+import helper.DeserializationProbe;
+import helper.MultiSchemaDb;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class CatalogCacheTest {
+
+    @ClassRule
+    public static MultiSchemaDb db = new MultiSchemaDb("catalogcache");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testCatalogCacheServesRepeatedExtractions() throws Exception {
+        AvroConfig avroConfig = new AvroConfig("test.namespace");
+        CatalogCache cache = new CatalogCache(temporaryFolder.getRoot().toPath());
+        DbSchemaExtractor extractor = new DbSchemaExtractor(db.getUrl(), "sa", "").setCatalogCache(cache);
+
+        assertThat(extractor.getForSchema(avroConfig, "alpha", Collections.emptyList()).size(), is(3));
+
+        db.execute("create table \"alpha\".\"alpha_new\"(\"id\" int)");
+        try {
+            assertThat(extractor.getForSchema(avroConfig, "alpha", Collections.emptyList()).size(), is(3));
+
+            cache.refresh();
+            assertThat(extractor.getForSchema(avroConfig, "alpha", Collections.emptyList()).size(), is(4));
+        }
+        finally {
+            db.execute("drop table \"alpha\".\"alpha_new\"");
+        }
+    }
+
+    @Test
+    public void testOtherClassesAreNotDeserialized() throws Exception {
+        Path directory = temporaryFolder.getRoot().toPath();
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(
+            Files.newOutputStream(directory.resolve(Digests.sha256("key") + ".catalog.gz"))))) {
+            out.writeObject(new DeserializationProbe());
+        }
+
+        try {
+            new CatalogCache(directory).get("key", () -> {
+                throw new IllegalStateException("crawled");
+            });
+        }
+        catch (IllegalStateException e) {
+            // unreadable cache file makes it crawl
+            assertThat(e.getMessage(), is("crawled"));
+        }
+
+        assertThat(DeserializationProbe.deserialized, is(false));
+    }
+
+    @Test
+    public void testJdkClassesOutsideCatalogsAreNotDeserialized() throws Exception {
+        // PriorityQueue calls its comparator while it's deserialized, classes of this library are allowed
+        PriorityQueue<String> queue = new PriorityQueue<>(new RecordingComparator());
+        queue.addAll(Arrays.asList("a", "b"));
+        RecordingComparator.compared = false;
+
+        Path directory = temporaryFolder.getRoot().toPath();
+        try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(
+            Files.newOutputStream(directory.resolve(Digests.sha256("key") + ".catalog.gz"))))) {
+            out.writeObject(queue);
+        }
+
+        try {
+            new CatalogCache(directory).get("key", () -> {
+                throw new IllegalStateException("crawled");
+            });
+        }
+        catch (IllegalStateException e) {
+            assertThat(e.getMessage(), is("crawled"));
+        }
+
+        assertThat(RecordingComparator.compared, is(false));
+    }
+
+    private static class RecordingComparator implements Comparator<String>, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        static volatile boolean compared;
+
+        @Override
+        public int compare(String first, String second) {
+            compared = true;
+            return first.compareTo(second);
+        }
+    }
+}
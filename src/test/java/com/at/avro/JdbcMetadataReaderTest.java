@@ -0,0 +1,74 @@
+package com.at.avro;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.at.avro.config.AvroConfig;
+import com.at.avro.config.ExtractorEngine;
+import helper.MultiSchemaDb;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.when;
+
+public class JdbcMetadataReaderTest {
+
+    @ClassRule
+    public static MultiSchemaDb db = new MultiSchemaDb("reader");
+
+    private final AvroConfig avroConfig = new AvroConfig("test.namespace");
+
+    @Test
+    public void testJdbcMetadataEngineBuildsSameModel() {
+        DbSchemaExtractor schemaCrawler = new DbSchemaExtractor(db.getUrl(), "sa", "");
+        DbSchemaExtractor jdbcMetadata = new DbSchemaExtractor(db.getUrl(), "sa", "").setEngine(ExtractorEngine.JDBC_METADATA);
+
+        List<AvroSchema> expected = schemaCrawler.getForSchema(avroConfig, "alpha", Collections.emptyList());
+        List<AvroSchema> actual = jdbcMetadata.getForSchema(avroConfig, "alpha", Collections.emptyList());
+        assertThat(actual.toString(), is(expected.toString()));
+        assertThat(actual.get(0).getKeys().get(0).getName(), is("id"));
+
+        assertThat(names(jdbcMetadata.getAll(avroConfig)), is(names(schemaCrawler.getAll(avroConfig))));
+        assertThat(names(jdbcMetadata.getForTables(avroConfig, "beta", Collections.emptyList(), "beta_1", "beta_2")),
+            is(Arrays.asList("beta_1", "beta_2")));
+
+        AvroConfig tableNameProperty = new AvroConfig("test.namespace")
+            .setTablePostProcessor((schema, table) -> schema.addCustomProperty("db-table-name", table.getName()));
+        assertThat(jdbcMetadata.getForTable(tableNameProperty, "beta", Collections.emptyList(), "beta_1")
+            .getCustomProperties().get("db-table-name"), is("beta_1"));
+    }
+
+    @Test
+    public void testPrimaryKeysReadPerTableWhenBulkCallReturnsNothing() throws SQLException {
+        // like Oracle, which returns no keys for a null table name
+        DatabaseMetaData metaData = spy(db.getConnection().getMetaData());
+        doReturn(mock(ResultSet.class)).when(metaData).getPrimaryKeys(any(), any(), isNull());
+        Connection spied = mock(Connection.class);
+        when(spied.getMetaData()).thenReturn(metaData);
+
+        List<DbTable> tables = new JdbcMetadataReader(spied).readTables("alpha", null);
+
+        assertThat(tables.size(), is(3));
+        for (DbTable table : tables) {
+            assertThat(table.getColumns().get(0).isPartOfPrimaryKey(), is(true));
+            assertThat(table.getColumns().get(1).isPartOfPrimaryKey(), is(false));
+        }
+    }
+
+    private static List<String> names(List<AvroSchema> schemas) {
+        return schemas.stream().map(AvroSchema::getName).collect(toList());
+    }
+}
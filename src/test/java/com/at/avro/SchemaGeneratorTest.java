@@ -0,0 +1,186 @@
+package com.at.avro;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import com.at.avro.config.FormatterConfig;
+import com.at.avro.formatters.SchemaFormatter;
+import com.at.avro.formatters.SchemaKeyFormatter;
+import com.at.avro.types.Primitive;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SchemaGeneratorTest {
+
+    private static final String DOC = "say \"hi\" to C:\\temp\nna\u00efve \u20ac \uD83D\uDE00";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testDocAndDefaultAreEscaped() {
+        String json = SchemaGenerator.generate(schema(), FormatterConfig.builder().build());
+
+        assertThat(json, containsString("\"doc\": \"say \\\"hi\\\" to C:\\\\temp\\nna\u00efve \u20ac \uD83D\uDE00\""));
+        assertThat(json, containsString("\"default\": \"\\\"quoted\\\"\""));
+    }
+
+    @Test
+    public void testGenerateToWritesUtf8() throws Exception {
+        FormatterConfig config = FormatterConfig.builder().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SchemaGenerator.generateTo(schema(), config, out);
+
+        assertThat(out.toByteArray(), is(SchemaGenerator.generate(schema(), config).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testGenerateToUsesOverriddenToJson() throws Exception {
+        FormatterConfig config = overridingConfig();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        SchemaGenerator.generateTo(schema(), config, out);
+
+        assertThat(out.toByteArray(), is(SchemaGenerator.generate(schema(), config).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testUtf8AppendableFlushesFullBuffer() throws Exception {
+        String text = "a\uD83D\uDE00b\u00e9\u20ac\uD83D";
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        Utf8Appendable utf8 = new Utf8Appendable(out, 4);
+        utf8.append(text);
+        utf8.flush();
+
+        assertThat(out.toByteArray(), is(text.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testGenerateAllUsesOverriddenToJson() throws Exception {
+        FormatterConfig config = overridingConfig();
+        Path outputDir = temporaryFolder.getRoot().toPath();
+
+        SchemaGenerator.generateAll(Collections.singletonList(schema()), config, outputDir);
+
+        assertThat(new String(Files.readAllBytes(outputDir.resolve("test.avsc")), StandardCharsets.UTF_8),
+            is(SchemaGenerator.generate(schema(), config)));
+    }
+
+    @Test
+    public void testGenerateAllRejectsNamesLeavingDirectory() throws Exception {
+        Path outputDir = temporaryFolder.newFolder("out").toPath();
+        for (String name : new String[] { "../escaped", "sub/name", outputDir.resolve("../absolute").toString() }) {
+            AvroSchema schema = schema(name);
+            try {
+                SchemaGenerator.generateAll(Collections.singletonList(schema), FormatterConfig.builder().build(), outputDir);
+                throw new AssertionError("accepted " + name);
+            }
+            catch (IllegalArgumentException e) {
+                assertThat(e.getMessage(), containsString(name));
+            }
+        }
+        assertThat(temporaryFolder.getRoot().toPath().resolve("escaped.avsc").toFile().exists(), is(false));
+    }
+
+    @Test
+    public void testGenerateAllRejectsNamesDifferingOnlyInCase() throws Exception {
+        Path outputDir = temporaryFolder.newFolder("out").toPath();
+        try {
+            SchemaGenerator.generateAll(Arrays.asList(schema("Orders"), schema("orders")), FormatterConfig.builder().build(), outputDir);
+            throw new AssertionError("accepted names differing only in case");
+        }
+        catch (IllegalArgumentException e) {
+            assertThat(e.getMessage(), containsString("orders"));
+        }
+        assertThat(outputDir.toFile().list().length, is(0));
+    }
+
+    @Test
+    public void testGenerateWithKeyUsesOverriddenToJson() {
+        FormatterConfig config = overridingConfig();
+
+        SchemaPair pair = SchemaGenerator.generateWithKey(schema(), config);
+
+        assertThat(pair.getValueSchema(), is(SchemaGenerator.generate(schema(), config)));
+        assertThat(pair.getKeySchema(), is(new SchemaKeyFormatter().toJson(schema(), config)));
+    }
+
+    @Test
+    public void testParallelGenerationKeepsOrder() {
+        List<AvroSchema> schemas = Arrays.asList(schema("alpha"), schema("beta"), schema("gamma"), schema("delta"));
+        FormatterConfig config = FormatterConfig.builder().build();
+        List<String> sequential = schemas.stream().map(schema -> SchemaGenerator.generate(schema, config)).collect(toList());
+
+        assertThat(SchemaGenerator.generateParallel(schemas, config), is(sequential));
+        assertThat(SchemaGenerator.generateParallel(schemas, config, new ForkJoinPool(3)), is(sequential));
+    }
+
+    @Test
+    public void testKeyAndValueSchemasGeneratedTogether() {
+        FormatterConfig config = FormatterConfig.builder().build();
+        FormatterConfig keyConfig = FormatterConfig.builder().setFormatter(AvroSchema.class, new SchemaKeyFormatter()).build();
+
+        SchemaPair pair = SchemaGenerator.generateWithKey(schema(), config);
+
+        assertThat(pair.getValueSchema(), is(SchemaGenerator.generate(schema(), config)));
+        assertThat(pair.getKeySchema(), is(SchemaGenerator.generate(schema(), keyConfig)));
+    }
+
+    @Test
+    public void testGenerateAllSkipsUnchangedFiles() throws Exception {
+        List<AvroSchema> schemas = Arrays.asList(schema("alpha"), schema("beta"), schema("gamma"));
+        FormatterConfig config = FormatterConfig.builder().build();
+        Path outputDir = temporaryFolder.getRoot().toPath().resolve("avsc");
+
+        assertThat(SchemaGenerator.generateAll(schemas, config, outputDir), is(3));
+        assertThat(new String(Files.readAllBytes(outputDir.resolve("alpha.avsc")), StandardCharsets.UTF_8),
+            is(SchemaGenerator.generate(schemas.get(0), config)));
+
+        Files.write(outputDir.resolve("gamma.avsc"), "outdated".getBytes(StandardCharsets.UTF_8));
+        assertThat(SchemaGenerator.generateAll(schemas, config, outputDir, true), is(1));
+        assertThat(SchemaGenerator.generateAll(schemas, config, outputDir, true), is(0));
+    }
+
+    private FormatterConfig overridingConfig() {
+        return FormatterConfig.builder()
+            .setFormatter(AvroSchema.class, new SchemaFormatter() {
+                @Override
+                public String toJson(AvroSchema avroSchema, FormatterConfig config) {
+                    return super.toJson(avroSchema, config).replaceAll(" ", "").replaceAll("\n", "");
+                }
+            })
+            .build();
+    }
+
+    private AvroSchema schema() {
+        return schema("test");
+    }
+
+    private AvroSchema schema(String name) {
+        AvroSchema schema = mock(AvroSchema.class);
+        when(schema.getName()).thenReturn(name);
+        when(schema.getNamespace()).thenReturn("test.namespace");
+        when(schema.getCustomProperties()).thenReturn(Collections.emptyMap());
+        List<AvroField> fields = Collections.singletonList(
+            new AvroField("name", new AvroType(new Primitive("string"), false), "\"quoted\"", DOC));
+        when(schema.getFields()).thenReturn(fields);
+        when(schema.getKeys()).thenReturn(fields);
+        return schema;
+    }
+}
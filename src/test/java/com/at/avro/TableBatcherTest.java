@@ -0,0 +1,87 @@
+package com.at.avro;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.at.avro.config.AvroConfig;
+import helper.CountingDataSource;
+import helper.MultiSchemaDb;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class TableBatcherTest {
+
+    @ClassRule
+    public static MultiSchemaDb db = new MultiSchemaDb("batcher");
+
+    private final AvroConfig avroConfig = new AvroConfig("test.namespace");
+
+    @Test
+    public void testTableBatcherServesRequestsFromOneCrawl() throws Exception {
+        CountingDataSource dataSource = new CountingDataSource(db.getUrl());
+        DbSchemaExtractor extractor = new DbSchemaExtractor(dataSource);
+        extractor.getForTable(avroConfig, "alpha", Collections.emptyList(), "alpha_0");
+        dataSource.resetConnections();
+
+        try (TableBatcher batcher = new TableBatcher(extractor, avroConfig, "alpha", Collections.emptyList())
+                .setWindow(Duration.ofMillis(100))) {
+            CompletableFuture<AvroSchema> first = batcher.request("alpha_0");
+            CompletableFuture<AvroSchema> second = batcher.request("alpha_2");
+            CompletableFuture<AvroSchema> missing = batcher.request("missing");
+
+            assertThat(first.get(10, TimeUnit.SECONDS).getName(), is("alpha_0"));
+            assertThat(second.get(10, TimeUnit.SECONDS).getName(), is("alpha_2"));
+            assertThat(missing.get(10, TimeUnit.SECONDS), is(nullValue()));
+        }
+        assertThat(dataSource.getConnections(), is(1));
+    }
+
+    @Test
+    public void testFailedCrawlCompletesFuturesAndIsRethrown() throws Exception {
+        DbSchemaExtractor extractor = mock(DbSchemaExtractor.class);
+        StackOverflowError error = new StackOverflowError();
+        when(extractor.getForTablesByName(any(), anyString(), anyList(), any())).thenThrow(error);
+
+        TableBatcher batcher = new TableBatcher(extractor, avroConfig, "alpha", Collections.emptyList())
+            .setWindow(Duration.ofHours(1));
+        CompletableFuture<AvroSchema> future = batcher.request("alpha_0");
+        try {
+            batcher.flush();
+            fail("crawl failure should be rethrown");
+        }
+        catch (StackOverflowError e) {
+            assertThat(e, is(error));
+        }
+
+        try {
+            future.get();
+            fail("future should fail with the crawl");
+        }
+        catch (ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(StackOverflowError.class));
+        }
+        batcher.close();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRequestAfterCloseFails() {
+        TableBatcher batcher = new TableBatcher(mock(DbSchemaExtractor.class), avroConfig, "alpha", Collections.emptyList());
+        batcher.close();
+
+        batcher.request("alpha_0");
+    }
+}
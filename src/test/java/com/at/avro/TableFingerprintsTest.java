@@ -0,0 +1,80 @@
+package com.at.avro;
+
+import java.nio.file.Path;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+
+import com.at.avro.config.AvroConfig;
+import helper.MultiSchemaDb;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class TableFingerprintsTest {
+
+    @ClassRule
+    public static MultiSchemaDb db = new MultiSchemaDb("fingerprints");
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testEnumSymbolsChangeFingerprint() {
+        TableFingerprints fingerprints = new TableFingerprints();
+
+        assertThat(fingerprints.update(table("status", "enum('a','b')")), is(true));
+        assertThat(fingerprints.update(table("status", "enum('a','b')")), is(false));
+        assertThat(fingerprints.update(table("status", "enum('a','b','c')")), is(true));
+    }
+
+    @Test
+    public void testDroppedTablesAreNotStored() {
+        Path file = temporaryFolder.getRoot().toPath().resolve("fingerprints.properties");
+        TableFingerprints fingerprints = new TableFingerprints();
+        fingerprints.update(table("kept", null));
+        fingerprints.update(table("dropped", null));
+        fingerprints.store(file);
+
+        fingerprints = TableFingerprints.load(file);
+        fingerprints.update(table("kept", null));
+        fingerprints.store(file);
+
+        assertThat(TableFingerprints.load(file).asMap().keySet(), is(Collections.singleton("PUBLIC.kept")));
+    }
+
+    @Test
+    public void testGetChangedSkipsUnchangedTables() throws Exception {
+        AvroConfig avroConfig = new AvroConfig("test.namespace");
+        Path fingerprintsFile = temporaryFolder.getRoot().toPath().resolve("fingerprints.properties");
+        DbSchemaExtractor extractor = new DbSchemaExtractor(db.getUrl(), "sa", "");
+
+        TableFingerprints fingerprints = TableFingerprints.load(fingerprintsFile);
+        assertThat(extractor.getChanged(avroConfig, "beta", Collections.emptyList(), fingerprints).size(), is(3));
+        fingerprints.store(fingerprintsFile);
+
+        fingerprints = TableFingerprints.load(fingerprintsFile);
+        assertThat(extractor.getChanged(avroConfig, "beta", Collections.emptyList(), fingerprints).size(), is(0));
+
+        db.execute("alter table \"beta\".\"beta_1\" add column \"extra\" varchar(10)");
+        try {
+            List<String> changed = extractor.getChanged(avroConfig, "beta", Collections.emptyList(), fingerprints).stream()
+                .map(AvroSchema::getName)
+                .collect(toList());
+            assertThat(changed, is(Collections.singletonList("beta_1")));
+        }
+        finally {
+            db.execute("alter table \"beta\".\"beta_1\" drop column \"extra\"");
+        }
+    }
+
+    private DbTable table(String name, String columnType) {
+        DbColumn column = new DbColumn("status", "enum", Types.CHAR, columnType, false, false, 1, 0, true, null, null, false);
+        return new DbTable(name, "PUBLIC." + name, null, Collections.singletonList(column));
+    }
+}
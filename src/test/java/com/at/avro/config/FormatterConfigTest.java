@@ -0,0 +1,94 @@
+package com.at.avro.config;
+
+import com.at.avro.AvroType;
+import com.at.avro.formatters.PrimitiveFormatter;
+import com.at.avro.types.Array;
+import com.at.avro.types.Primitive;
+import com.at.avro.types.Type;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class FormatterConfigTest {
+
+    @Test
+    public void testFormatterResolvedBySuperclass() {
+        FormatterConfig config = FormatterConfig.builder().build();
+        Primitive uuid = new Primitive("string") { };
+
+        assertThat(config.getFormatter(uuid), instanceOf(PrimitiveFormatter.class));
+        assertThat(config.getFormatter(uuid).toJson(uuid, config), is("\"string\""));
+    }
+
+    @Test
+    public void testCustomFormatterOverridesInheritedOne() {
+        FormatterConfig config = FormatterConfig.builder()
+            .setFormatter(Uuid.class, (uuid, formatterConfig) -> "{ \"type\": \"string\", \"logicalType\": \"uuid\" }")
+            .build();
+
+        assertThat(config.getFormatter(new Uuid()).toJson(new Uuid(), config), is("{ \"type\": \"string\", \"logicalType\": \"uuid\" }"));
+        assertThat(config.getFormatter(new Primitive("int")), instanceOf(PrimitiveFormatter.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownClass() {
+        FormatterConfig.builder().build().getFormatter("not a dto");
+    }
+
+    @Test
+    public void testJsonCachedByValue() {
+        FormatterConfig config = FormatterConfig.builder().build();
+        AtomicInteger renders = new AtomicInteger();
+
+        String json = config.cachedJson(new Primitive("int"), type -> renders.incrementAndGet() + type.getPrimitiveType());
+
+        assertThat(json, is("1int"));
+        assertThat(config.cachedJson(new Primitive("int"), type -> renders.incrementAndGet() + type.getPrimitiveType()), is("1int"));
+        assertThat(config.cachedJson(new Primitive("long"), type -> renders.incrementAndGet() + type.getPrimitiveType()), is("2long"));
+    }
+
+    @Test
+    public void testArrayWithCustomItemsFormatterIsNotCached() {
+        AtomicInteger renders = new AtomicInteger();
+        FormatterConfig config = FormatterConfig.builder()
+            .setFormatter(Primitive.class, (primitive, formatterConfig) -> "\"" + primitive.getPrimitiveType() + renders.incrementAndGet() + "\"")
+            .build();
+        AvroType array = new AvroType(new Array(new Primitive("int")), false);
+
+        assertThat(config.getFormatter(array).toJson(array, config), is("{ \"type\": \"array\", \"items\": \"int1\" }"));
+        assertThat(config.getFormatter(array).toJson(array, config), is("{ \"type\": \"array\", \"items\": \"int2\" }"));
+    }
+
+    @Test
+    public void testCustomTypesAreComparedByIdentity() {
+        FormatterConfig config = FormatterConfig.builder()
+            .setFormatter(Fixed.class, (fixed, formatterConfig) -> "{ \"type\": \"fixed\", \"size\": " + fixed.size + " }")
+            .build();
+        AvroType fixed16 = new AvroType(new Fixed(16), false);
+        AvroType fixed4 = new AvroType(new Fixed(4), false);
+
+        assertThat(config.getFormatter(fixed16).toJson(fixed16, config), is("{ \"type\": \"fixed\", \"size\": 16 }"));
+        assertThat(config.getFormatter(fixed4).toJson(fixed4, config), is("{ \"type\": \"fixed\", \"size\": 4 }"));
+        assertThat(new Primitive("int") { }.equals(new Primitive("int") { }), is(false));
+        assertThat(new Primitive("int").equals(new Primitive("int")), is(true));
+    }
+
+    private static class Fixed extends Type {
+        final int size;
+
+        Fixed(int size) {
+            super("fixed");
+            this.size = size;
+        }
+    }
+
+    private static class Uuid extends Primitive {
+        Uuid() {
+            super("string");
+        }
+    }
+}
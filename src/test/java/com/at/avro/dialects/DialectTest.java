@@ -0,0 +1,146 @@
+package com.at.avro.dialects;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import com.at.avro.AvroField;
+import com.at.avro.AvroSchema;
+import com.at.avro.DbColumn;
+import com.at.avro.DbSchemaExtractor;
+import com.at.avro.config.AvroConfig;
+import com.at.avro.config.ExtractorEngine;
+import com.at.avro.config.FormatterConfig;
+import com.at.avro.config.TypeRegistry;
+import com.at.avro.types.Array;
+import com.at.avro.types.Date;
+import com.at.avro.types.Decimal;
+import com.at.avro.types.Enum;
+import com.at.avro.types.Type;
+import helper.SyntheticCatalog;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DialectTest {
+
+    @Test
+    public void testDialectsLoadedByProductName() {
+        assertThat(Dialect.forDatabase("Oracle").get(0), instanceOf(OracleDialect.class));
+        assertThat(Dialect.forDatabase("PostgreSQL").get(0), instanceOf(PostgreSqlDialect.class));
+        assertThat(Dialect.forDatabase("MariaDB").get(0), instanceOf(MySqlDialect.class));
+        assertThat(Dialect.forDatabase("Microsoft SQL Server").get(0), instanceOf(SqlServerDialect.class));
+        assertThat(Dialect.forDatabase("HSQL Database Engine").get(0), instanceOf(HsqlDbDialect.class));
+        assertThat(Dialect.forDatabase("SQLite").isEmpty(), is(true));
+    }
+
+    @Test
+    public void testRegistryResolvedOnlyWhenNoneIsSet() {
+        AvroConfig resolved = new AvroConfig("test");
+        resolved.resolveTypeRegistry("MySQL");
+        TypeRegistry registry = TypeRegistry.defaults();
+        AvroConfig explicit = new AvroConfig("test").setTypeRegistry(registry);
+
+        assertThat(resolved.getTypeRegistry().map(column("ENUM", Types.CHAR, "enum('a','b')"), resolved), instanceOf(Enum.class));
+        assertThat(resolved.resolveTypeRegistry("PostgreSQL"), is(resolved.getTypeRegistry()));
+        assertThat(explicit.resolveTypeRegistry("MySQL"), is(registry));
+        assertThat(registry.map(column("ENUM", Types.CHAR, "enum('a','b')"), explicit), nullValue());
+    }
+
+    @Test
+    public void testMySqlMapsByJdbcTypeAndEnumsByName() {
+        AvroConfig config = new AvroConfig("test").setTypeRegistry(TypeRegistry.forDatabase("MySQL"));
+
+        assertThat(config.getTypeRegistry().map(column("char", Types.CHAR, null), config).getPrimitiveType(), is("string"));
+        assertThat(config.getTypeRegistry().map(column("year", Types.DATE, null), config).getPrimitiveType(), is("int"));
+        assertThat(config.getTypeRegistry().map(column("ENUM", Types.CHAR, "enum('a','b')"), config), instanceOf(Enum.class));
+    }
+
+    @Test
+    public void testOracleNumberAndSqlServerCodes() {
+        AvroConfig oracle = new AvroConfig("test").setTypeRegistry(TypeRegistry.forDatabase("Oracle"));
+        AvroConfig sqlServer = new AvroConfig("test").setTypeRegistry(TypeRegistry.forDatabase("Microsoft SQL Server"));
+
+        assertThat(oracle.getTypeRegistry().map(column("NUMBER", Types.NUMERIC, null), oracle).getPrimitiveType(), is("long"));
+        assertThat(sqlServer.getTypeRegistry().map(column("datetimeoffset", -155, null), sqlServer).getPrimitiveType(), is("long"));
+        assertThat(sqlServer.getTypeRegistry().map(column("money", Types.DECIMAL, null), sqlServer), instanceOf(Decimal.class));
+    }
+
+    @Test
+    public void testPostgreSqlArrayItemsKeepLogicalTypes() {
+        AvroConfig config = new AvroConfig("test").setTypeRegistry(TypeRegistry.forDatabase("PostgreSQL"));
+        FormatterConfig formatterConfig = FormatterConfig.builder().build();
+        DbColumn dates = column("_date", Types.ARRAY, null);
+        when(dates.isArray()).thenReturn(true);
+
+        Type type = config.getTypeRegistry().map(dates, config);
+
+        assertThat(((Array) type).getItemsType(), instanceOf(Date.class));
+        assertThat(formatterConfig.getFormatter(type).toJson(type, formatterConfig),
+            is("{ \"type\": \"array\", \"items\": { \"type\": \"int\", \"logicalType\": \"date\"} }"));
+    }
+
+    @Test
+    public void testHsqlDbDialectMapsEverySyntheticColumnType() throws SQLException {
+        Map<String, String> expected = new HashMap<>();
+        expected.put("integer", "Primitive(int)");
+        expected.put("bigint", "Primitive(long)");
+        expected.put("smallint", "Primitive(int)");
+        expected.put("varchar(100)", "Primitive(string)");
+        expected.put("char(10)", "Primitive(string)");
+        expected.put("decimal(12, 2)", "Decimal(bytes): decimal[12:2]");
+        expected.put("numeric(30, 6)", "Decimal(bytes): decimal[30:6]");
+        expected.put("date", "Date(int): date");
+        expected.put("time", "Time(int): time-millis");
+        expected.put("timestamp", "Timestamp(long): timestamp-millis");
+        expected.put("boolean", "Primitive(boolean)");
+        expected.put("double", "Primitive(double)");
+        expected.put("varbinary(64)", "Primitive(bytes)");
+        expected.put("integer array", "Array(int): Primitive(int)");
+        // distinct type, reported as its source type
+        expected.put("money", "Decimal(bytes): decimal[18:4]");
+        assertThat(expected.keySet(), is(new HashSet<>(SyntheticCatalog.columnTypes())));
+
+        String url = "jdbc:hsqldb:mem:synthetic;shutdown=true";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            new SyntheticCatalog(3, 40).create(connection);
+
+            for (ExtractorEngine engine : ExtractorEngine.values()) {
+                // no registry and no unknown type resolver, HSQLDB dialect is picked by the extractor
+                AvroConfig config = new AvroConfig("test.namespace");
+                List<AvroSchema> schemas = new DbSchemaExtractor(url, "sa", "").setEngine(engine).getAll(config);
+
+                assertThat(schemas.stream().map(AvroSchema::getName).collect(toList()),
+                    is(Arrays.asList("synthetic_0", "synthetic_1", "synthetic_2")));
+                List<AvroField> fields = schemas.get(0).getFields();
+                assertThat(fields.size(), is(40));
+                for (int c = 0; c < fields.size(); c++) {
+                    String columnType = SyntheticCatalog.columnType(c);
+                    assertThat(engine + " " + columnType, fields.get(c).getType().getType().toString(), is(expected.get(columnType)));
+                }
+            }
+        }
+    }
+
+    private DbColumn column(String typeName, int jdbcType, String columnType) {
+        DbColumn column = mock(DbColumn.class);
+        when(column.getName()).thenReturn("test");
+        when(column.getTypeName()).thenReturn(typeName);
+        when(column.getJdbcType()).thenReturn(jdbcType);
+        when(column.getColumnType()).thenReturn(columnType);
+        when(column.getSize()).thenReturn(12);
+        return column;
+    }
+}
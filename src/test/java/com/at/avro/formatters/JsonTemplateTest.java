@@ -0,0 +1,26 @@
+package com.at.avro.formatters;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public class JsonTemplateTest {
+
+    @Test
+    public void testCompileSubstitutesColonsAndSplitsByPlaceholders() {
+        JsonTemplate template = JsonTemplate.compile("{ \"type\":\"%s\", \"scale\":%s }", ": ");
+
+        assertThat(template.part(0), is("{ \"type\": \""));
+        assertThat(template.part(1), is("\", \"scale\": "));
+        assertThat(template.part(2), is(" }"));
+    }
+
+    @Test
+    public void testMinifiedTemplateKeepsQuotedWhitespace() {
+        JsonTemplate template = JsonTemplate.compile("{ \"type\":\"enum\", \"doc\":\"a b\", \"symbols\":[%s] }", ":", true);
+
+        assertThat(template.part(0), is("{\"type\":\"enum\",\"doc\":\"a b\",\"symbols\":["));
+        assertThat(template.part(1), is("]}"));
+    }
+}
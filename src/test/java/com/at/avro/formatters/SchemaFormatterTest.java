@@ -0,0 +1,120 @@
+package com.at.avro.formatters;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.at.avro.AvroField;
+import com.at.avro.AvroSchema;
+import com.at.avro.AvroType;
+import com.at.avro.config.FormatterConfig;
+import com.at.avro.types.Primitive;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SchemaFormatterTest {
+
+    @Test
+    public void testNonPrettyPrintedSchemaKeepsLastFieldClosed() {
+        FormatterConfig config = FormatterConfig.builder().setPrettyPrintSchema(false).build();
+
+        assertThat(new SchemaFormatter().toJson(schema(), config),
+            is("{ \"type\": \"record\", \"name\": \"test\", \"namespace\": \"test.namespace\", \"fields\": [" +
+                "{ \"name\": \"id\", \"type\": \"int\", \"default\": 0 }," +
+                "{ \"name\": \"name\", \"type\": [ \"null\", \"string\" ], \"default\": null, \"doc\": \"Name\" }]}"));
+    }
+
+    @Test
+    public void testMinifiedSchemaHasNoWhitespace() {
+        FormatterConfig config = FormatterConfig.builder().setMinified(true).setPrettyPrintFields(true).build();
+
+        assertThat(new SchemaFormatter().toJson(schema(), config),
+            is("{\"type\":\"record\",\"name\":\"test\",\"namespace\":\"test.namespace\",\"fields\":[" +
+                "{\"name\":\"id\",\"type\":\"int\",\"default\":0}," +
+                "{\"name\":\"name\",\"type\":[\"null\",\"string\"],\"default\":null,\"doc\":\"Name\"}]}"));
+    }
+
+    @Test
+    public void testWriteJsonMatchesToJson() throws Exception {
+        FormatterConfig config = FormatterConfig.builder().setPrettyPrintFields(true).build();
+        StringWriter writer = new StringWriter();
+
+        SchemaFormatter formatter = new SchemaFormatter();
+        formatter.writeJson(schema(), config, writer);
+
+        assertThat(writer.toString(), is(formatter.toJson(schema(), config)));
+    }
+
+    @Test
+    public void testSubclassOverridingOnlyToJsonIsUsed() throws Exception {
+        FormatterConfig config = FormatterConfig.builder()
+            .setPrettyPrintSchema(false)
+            .setFormatter(AvroField.class, new FieldFormatter() {
+                @Override
+                public String toJson(AvroField field, FormatterConfig config) {
+                    return "{\"F\":1}";
+                }
+            })
+            .build();
+        StringWriter writer = new StringWriter();
+
+        new SchemaFormatter().writeJson(schema(), config, writer);
+
+        assertThat(writer.toString(), is("{ \"type\": \"record\", \"name\": \"test\", \"namespace\": \"test.namespace\", " +
+            "\"fields\": [{\"F\":1},{\"F\":1}]}"));
+    }
+
+    @Test
+    public void testOnlyFieldsInMapAreShared() throws Exception {
+        FormatterConfig config = FormatterConfig.builder().build();
+        AvroSchema schema = schema();
+        AvroField id = schema.getFields().get(0);
+        Map<AvroField, String> renderedFields = new IdentityHashMap<>();
+        renderedFields.put(id, null);
+        StringWriter writer = new StringWriter();
+
+        new SchemaFormatter().writeJson(schema, config, writer, renderedFields);
+
+        assertThat(writer.toString(), is(new SchemaFormatter().toJson(schema, config)));
+        assertThat(renderedFields.size(), is(1));
+        assertThat(renderedFields.get(id), is(config.getFormatter(id).toJson(id, config)));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testOverriddenFormatLineAndFormatFieldsAreCalled() {
+        FormatterConfig config = FormatterConfig.builder().setPrettyPrintSchema(false).build();
+        SchemaFormatter formatter = new SchemaFormatter() {
+            @Override
+            public String formatLine(FormatterConfig config, String name, String value) {
+                return "\"" + name + "\":\"" + value.toUpperCase() + "\", ";
+            }
+
+            @Override
+            public String formatFields(FormatterConfig config, List<AvroField> fields) {
+                return fields.size() + " fields";
+            }
+        };
+
+        assertThat(formatter.toJson(schema(), config),
+            is("{ \"type\":\"RECORD\", \"name\":\"TEST\", \"namespace\":\"TEST.NAMESPACE\", \"fields\": [2 fields]}"));
+    }
+
+    private AvroSchema schema() {
+        AvroSchema schema = mock(AvroSchema.class);
+        when(schema.getName()).thenReturn("test");
+        when(schema.getNamespace()).thenReturn("test.namespace");
+        when(schema.getCustomProperties()).thenReturn(Collections.emptyMap());
+        when(schema.getFields()).thenReturn(Arrays.asList(
+            new AvroField("id", new AvroType(new Primitive("int"), false), 0, null),
+            new AvroField("name", new AvroType(new Primitive("string"), true), null, "Name")));
+        return schema;
+    }
+}
@@ -0,0 +1,168 @@
+package com.at.avro.integration;
+
+import com.at.avro.AvroSchema;
+import com.at.avro.DbSchemaExtractor;
+import com.at.avro.config.AvroConfig;
+import com.at.avro.config.CrawlProfile;
+import helper.CountingDataSource;
+import helper.MultiSchemaDb;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+/**
+ * Extraction modes tested against a db with several schemas.
+ */
+public class HsqlExtractorTest {
+
+    @ClassRule
+    public static MultiSchemaDb db = new MultiSchemaDb("extractor");
+
+    private AvroConfig avroConfig = new AvroConfig("test.namespace");
+
+    @Test
+    public void testParallelGetAllMatchesSequential() {
+        List<AvroSchema> sequential = extractor().getAll(avroConfig);
+        List<AvroSchema> parallel = extractor().setParallelism(4).getAll(avroConfig);
+
+        assertThat(names(parallel), is(names(sequential)));
+    }
+
+    @Test
+    public void testExtractToHandsOutSameSchemasAsGetAll() {
+        DbSchemaExtractor extractor = extractor();
+        List<AvroSchema> extracted = new ArrayList<>();
+        extractor.extractTo(avroConfig, null, Collections.emptyList(), extracted::add);
+
+        assertThat(names(extracted), is(names(extractor.getAll(avroConfig))));
+    }
+
+    @Test
+    public void testStreamForDbSchema() {
+        List<String> names = extractor().stream(avroConfig, "beta", Collections.emptyList())
+            .map(AvroSchema::getName)
+            .collect(toList());
+
+        assertThat(names, is(Arrays.asList("beta_0", "beta_1", "beta_2")));
+    }
+
+    @Test
+    public void testStreamBatchesCrawlTablesInBatches() {
+        DbSchemaExtractor batched = extractor().setStreamBatchSize(2);
+
+        List<AvroSchema> extracted = new ArrayList<>();
+        batched.extractTo(avroConfig, null, Collections.emptyList(), extracted::add);
+        assertThat(names(extracted), is(names(extractor().getAll(avroConfig))));
+
+        List<AvroSchema> parallel = new ArrayList<>();
+        batched.setParallelism(3).extractTo(avroConfig, "beta", Collections.emptyList(), parallel::add);
+        assertThat(names(parallel), is(Arrays.asList("beta_0", "beta_1", "beta_2")));
+
+        List<String> streamed = batched.stream(avroConfig, "alpha", Collections.emptyList())
+            .map(AvroSchema::getName)
+            .collect(toList());
+        assertThat(streamed, is(Arrays.asList("alpha_0", "alpha_1", "alpha_2")));
+    }
+
+    @Test
+    public void testMinimalCrawlProfileBuildsSameModel() {
+        DbSchemaExtractor extractor = extractor();
+        List<AvroSchema> standard = extractor.getForSchema(avroConfig, "alpha", Collections.emptyList());
+        List<AvroSchema> minimal = extractor.getForSchema(
+            new AvroConfig("test.namespace").setCrawlProfile(CrawlProfile.MINIMAL), "alpha", Collections.emptyList());
+
+        assertThat(minimal.toString(), is(standard.toString()));
+        assertThat(minimal.get(0).getKeys().get(0).getName(), is("id"));
+    }
+
+    @Test
+    public void testDataSourceExtractorMatchesUrlExtractor() {
+        List<AvroSchema> fromDataSource = new DbSchemaExtractor(new CountingDataSource(db.getUrl()))
+            .getForSchema(avroConfig, "alpha", Collections.emptyList());
+        List<AvroSchema> fromUrl = extractor().getForSchema(avroConfig, "alpha", Collections.emptyList());
+
+        assertThat(fromDataSource.toString(), is(fromUrl.toString()));
+    }
+
+    @Test
+    public void testConnectionPoolReusesConnections() {
+        CountingDataSource dataSource = new CountingDataSource(db.getUrl());
+        try (DbSchemaExtractor extractor = new DbSchemaExtractor(dataSource).setConnectionPoolSize(1)) {
+            for (int i = 0; i < 3; i++) {
+                assertThat(extractor.getForSchema(avroConfig, "beta", Collections.emptyList()).size(), is(3));
+            }
+        }
+        assertThat(dataSource.getConnections(), is(1));
+    }
+
+    @Test
+    public void testSessionRunsOverSingleConnection() {
+        CountingDataSource dataSource = new CountingDataSource(db.getUrl());
+        try (DbSchemaExtractor.Session session = new DbSchemaExtractor(dataSource).openSession()) {
+            assertThat(session.getForSchema(avroConfig, "alpha", Collections.emptyList()).size(), is(3));
+            assertThat(session.getForSchema(avroConfig, "beta", Collections.emptyList()).size(), is(3));
+        }
+        assertThat(dataSource.getConnections(), is(1));
+    }
+
+    @Test
+    public void testClosedSessionGivesConnectionBackOnce() {
+        CountingDataSource dataSource = new CountingDataSource(db.getUrl());
+        try (DbSchemaExtractor extractor = new DbSchemaExtractor(dataSource).setConnectionPoolSize(2)) {
+            DbSchemaExtractor.Session session = extractor.openSession();
+            session.close();
+            session.close();
+            try {
+                session.getForSchema(avroConfig, "beta", Collections.emptyList());
+                fail("closed session was used");
+            }
+            catch (IllegalStateException e) {
+                // expected
+            }
+
+            try (DbSchemaExtractor.Session first = extractor.openSession();
+                 DbSchemaExtractor.Session second = extractor.openSession()) {
+                assertThat(first.getForSchema(avroConfig, "alpha", Collections.emptyList()).size(), is(3));
+                assertThat(second.getForSchema(avroConfig, "beta", Collections.emptyList()).size(), is(3));
+            }
+        }
+        assertThat(dataSource.getConnections(), is(2));
+    }
+
+    @Test
+    public void testParallelGetForTablesMatchesSequential() {
+        String[] tables = { "alpha_0", "alpha_1", "alpha_2" };
+        List<AvroSchema> sequential = extractor().getForTables(avroConfig, "alpha", Collections.emptyList(), tables);
+        List<AvroSchema> parallel = extractor().setParallelism(2).getForTables(avroConfig, "alpha", Collections.emptyList(), tables);
+
+        assertThat(names(sequential), is(Arrays.asList(tables)));
+        assertThat(names(parallel), is(names(sequential)));
+    }
+
+    @Test
+    public void testGetForTablesByName() {
+        Map<String, AvroSchema> schemas = extractor()
+            .getForTablesByName(avroConfig, "beta", Collections.emptyList(), Arrays.asList("beta_2", "missing", "beta_0"));
+
+        assertThat(new ArrayList<>(schemas.keySet()), is(Arrays.asList("beta_2", "beta_0")));
+        assertThat(schemas.get("beta_2").getName(), is("beta_2"));
+    }
+
+    private static DbSchemaExtractor extractor() {
+        return new DbSchemaExtractor(db.getUrl(), "sa", "");
+    }
+
+    private static List<String> names(List<AvroSchema> schemas) {
+        return schemas.stream().map(AvroSchema::getName).collect(toList());
+    }
+}
@@ -0,0 +1,51 @@
+package com.at.avro.mappers;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class AvroNameSanitizerTest {
+
+    @Test
+    public void testStripQuotes() throws Exception {
+        AvroNameSanitizer sanitizer = AvroNameSanitizer.stripQuotes();
+
+        assertThat(sanitizer.apply("`some\"na'me`"), is("somename"));
+        assertThat(sanitizer.apply("first name"), is("first name"));
+    }
+
+    @Test
+    public void testValidNameIsNotCopied() throws Exception {
+        String name = "some_name1";
+        assertThat(AvroNameSanitizer.avroNames().apply(name), sameInstance(name));
+    }
+
+    @Test
+    public void testAvroNames() throws Exception {
+        AvroNameSanitizer sanitizer = AvroNameSanitizer.avroNames();
+
+        assertThat(sanitizer.apply("\"first name\""), is("first_name"));
+        assertThat(sanitizer.apply("order-id"), is("order_id"));
+        assertThat(sanitizer.apply("1st"), is("_1st"));
+        assertThat(sanitizer.apply("na\u00efve"), is("na_ve"));
+        assertThat(sanitizer.apply("``"), is("_"));
+        assertThat(sanitizer.setReplacement('x').apply("a b"), is("axb"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testReplacementShouldBeValid() throws Exception {
+        AvroNameSanitizer.avroNames().setReplacement('-');
+    }
+
+    @Test
+    public void testRewrittenNamesGetSuffix() throws Exception {
+        AvroNameSanitizer sanitizer = AvroNameSanitizer.avroNames();
+
+        assertThat(sanitizer.sanitizeAll(asList("a b", "a-b", "a_b", "a_b_2")), is(asList("a_b_3", "a_b_4", "a_b", "a_b_2")));
+        assertThat(sanitizer.sanitizeAll(asList("a_b", "a b")), is(asList("a_b", "a_b_2")));
+        assertThat(sanitizer.setUniqueNames(false).sanitizeAll(asList("a b", "a_b")), is(asList("a_b", "a_b")));
+    }
+}
@@ -0,0 +1,50 @@
+package com.at.avro.types;
+
+import com.at.avro.AvroType;
+import com.at.avro.config.AvroConfig;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class TypeFactoryTest {
+
+    @Test
+    public void testEqualTypesAreShared() {
+        AvroConfig config = new AvroConfig("test");
+
+        assertThat(TypeFactory.primitive("int"), sameInstance(TypeFactory.primitive("int")));
+        assertThat(TypeFactory.date(config), sameInstance(TypeFactory.date(config)));
+        assertThat(TypeFactory.timestamp(config), sameInstance(TypeFactory.timestamp(new AvroConfig("other"))));
+        assertThat(TypeFactory.decimal(10, 2, config), sameInstance(TypeFactory.decimal(10, 2, config)));
+        assertThat(TypeFactory.decimal(10, 2, config), not(TypeFactory.decimal(10, 3, config)));
+        assertThat(TypeFactory.intern(new Enum("status", "enum('a','b')")), sameInstance(TypeFactory.intern(new Enum("status", "enum('a', 'b')"))));
+    }
+
+    @Test
+    public void testEqualAvroTypesAreShared() {
+        AvroType nullableInt = TypeFactory.intern(new AvroType(new Primitive("int"), true));
+
+        assertThat(TypeFactory.intern(new AvroType(TypeFactory.primitive("int"), true)), sameInstance(nullableInt));
+        assertThat(TypeFactory.intern(new AvroType(new Primitive("int"), false)), not(nullableInt));
+    }
+
+    @Test
+    public void testTypesOfDifferentConfigsAreNotShared() {
+        Decimal decimal = TypeFactory.decimal(10, 2, new AvroConfig("test"));
+        Decimal doubleDecimal = TypeFactory.decimal(10, 2, new AvroConfig("test").setDecimalTypeClass(Double.class));
+
+        assertThat(decimal.getJavaClass(), is("java.math.BigDecimal"));
+        assertThat(doubleDecimal.getJavaClass(), is("java.lang.Double"));
+    }
+
+    @Test
+    public void testEnumSymbolsCantBeChanged() {
+        Enum anEnum = new Enum("status", "enum('a','b')");
+        anEnum.getSymbols()[0] = "changed";
+
+        assertThat(anEnum.getSymbols()[0], is("a"));
+    }
+}
@@ -0,0 +1,38 @@
+package helper;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hsqldb.jdbc.JDBCDataSource;
+
+/**
+ * HSQLDB DataSource counting connections it has opened.
+ */
+public class CountingDataSource extends JDBCDataSource {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicInteger connections = new AtomicInteger();
+
+    public CountingDataSource(String url) {
+        setUrl(url);
+        setUser("sa");
+        setPassword("");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        connections.incrementAndGet();
+        return super.getConnection();
+    }
+
+    /** Number of connections opened so far. */
+    public int getConnections() {
+        return connections.get();
+    }
+
+    public void resetConnections() {
+        connections.set(0);
+    }
+}
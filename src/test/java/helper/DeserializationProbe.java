@@ -0,0 +1,20 @@
+package helper;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * Serializable class outside of packages allowed in caches, which tells whether it has ever been deserialized.
+ */
+public class DeserializationProbe implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static volatile boolean deserialized;
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        deserialized = true;
+    }
+}
@@ -0,0 +1,62 @@
+package helper;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.rules.ExternalResource;
+
+/**
+ * In-memory HSQLDB with DB schemas "alpha" and "beta", three tables each (alpha_0..alpha_2, beta_0..beta_2)
+ * with an "id" primary key and a "name" column. Use as a ClassRule, each test class with its own db name.
+ */
+public class MultiSchemaDb extends ExternalResource {
+
+    private static final String[] DB_SCHEMAS = { "alpha", "beta" };
+
+    private final String url;
+    private Connection connection;
+
+    public MultiSchemaDb(String name) {
+        this.url = "jdbc:hsqldb:mem:" + name + ";shutdown=true";
+    }
+
+    @Override
+    protected void before() throws SQLException {
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            for (String dbSchema : DB_SCHEMAS) {
+                statement.execute("create schema \"" + dbSchema + "\"");
+                for (int i = 0; i < 3; i++) {
+                    statement.execute("create table \"" + dbSchema + "\".\"" + dbSchema + "_" + i + "\"(" +
+                        "\"id\" int not null primary key, \"name\" varchar(50))");
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void after() {
+        try {
+            connection.close();
+        }
+        catch (SQLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Connection getConnection() {
+        return connection;
+    }
+
+    public void execute(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}